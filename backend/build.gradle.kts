@@ -7,7 +7,7 @@ plugins {
 apply(plugin = "io.spring.dependency-management")
 
 group = "com.tecknobit.neutron"
-version = "1.0.4"
+version = "1.0.5"
 
 repositories {
     mavenCentral()
@@ -24,6 +24,11 @@ dependencies {
     implementation(libs.equinox.core)
     implementation(libs.json)
     implementation(project(":core"))
+    testImplementation(libs.spring.boot.starter.test)
+}
+
+tasks.test {
+    useJUnitPlatform()
 }
 
 kotlin {
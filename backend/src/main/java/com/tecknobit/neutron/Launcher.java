@@ -54,6 +54,11 @@ public class Launcher {
      *          </ul>
      *     </li>
      *     <li>
+     *         <b>--rebuild-rollups</b> -> launch your java application with "--rebuild-rollups" to regenerate the
+     *         revenue rollups from the revenues tables <br>
+     *                       e.g java -jar Neutron.jar --rebuild-rollups
+     *     </li>
+     *     <li>
      *         {@link SpringApplication} -> see the allowed arguments <a href="https://docs.spring.io/spring-boot/docs/current/reference/html/application-properties.html">here</a>
      *     </li>
      * </ul>
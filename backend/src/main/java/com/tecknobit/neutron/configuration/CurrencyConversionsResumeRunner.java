@@ -0,0 +1,56 @@
+package com.tecknobit.neutron.configuration;
+
+import com.tecknobit.neutron.services.revenues.service.CurrencyConversionService;
+import com.tecknobit.neutron.services.users.service.NeutronUsersService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The {@code CurrencyConversionsResumeRunner} class is useful to resume, when the backend is launched, the
+ * {@link com.tecknobit.neutron.services.revenues.entities.CurrencyConversionRun} interrupted by its last stop, for
+ * example during a deploy, so the revenues of the users are never left in mixed currencies
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see ApplicationRunner
+ *
+ * @since 1.0.5
+ */
+@Configuration
+public class CurrencyConversionsResumeRunner implements ApplicationRunner {
+
+    /**
+     * {@code conversionService} the service which converts the revenues
+     */
+    private final CurrencyConversionService conversionService;
+
+    /**
+     * {@code usersService} helper to manage the users operations
+     */
+    private final NeutronUsersService usersService;
+
+    /**
+     * Constructor to init the runner
+     *
+     * @param conversionService The service which converts the revenues
+     * @param usersService The helper to manage the users operations
+     */
+    @Autowired
+    public CurrencyConversionsResumeRunner(CurrencyConversionService conversionService,
+                                           NeutronUsersService usersService) {
+        this.conversionService = conversionService;
+        this.usersService = usersService;
+    }
+
+    /**
+     * Method to resume the pending conversions, they are executed in background
+     *
+     * @param args The arguments used to launch the backend
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        usersService.resumeCurrencyConversions(conversionService.getPendingRuns());
+    }
+
+}
@@ -0,0 +1,54 @@
+package com.tecknobit.neutron.configuration;
+
+import com.tecknobit.neutron.services.revenues.service.RevenueRollupsService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * The {@code RollupsRebuildRunner} class is useful to regenerate all the
+ * {@link com.tecknobit.neutron.services.revenues.entities.RevenueRollup} and the materialized counters of the projects
+ * from the revenues tables when the backend is
+ * launched with the {@link #REBUILD_ROLLUPS_OPTION} option, e.g java -jar Neutron.jar --rebuild-rollups
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see ApplicationRunner
+ *
+ * @since 1.0.5
+ */
+@Configuration
+public class RollupsRebuildRunner implements ApplicationRunner {
+
+    /**
+     * {@code REBUILD_ROLLUPS_OPTION} the option used to request the rebuild of the rollups
+     */
+    public static final String REBUILD_ROLLUPS_OPTION = "rebuild-rollups";
+
+    /**
+     * {@code rollupsService} helper to manage the revenue rollups operations
+     */
+    private final RevenueRollupsService rollupsService;
+
+    /**
+     * Constructor to init the runner
+     *
+     * @param rollupsService The helper to manage the revenue rollups operations
+     */
+    @Autowired
+    public RollupsRebuildRunner(RevenueRollupsService rollupsService) {
+        this.rollupsService = rollupsService;
+    }
+
+    /**
+     * Method to rebuild the rollups if requested by the launch arguments
+     *
+     * @param args The arguments used to launch the backend
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if(args.containsOption(REBUILD_ROLLUPS_OPTION))
+            rollupsService.rebuildAllRollups();
+    }
+
+}
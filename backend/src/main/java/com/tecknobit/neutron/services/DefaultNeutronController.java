@@ -2,9 +2,11 @@ package com.tecknobit.neutron.services;
 
 import com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController;
 import com.tecknobit.equinoxbackend.environment.services.users.entity.EquinoxUser;
+import com.tecknobit.neutron.services.revenues.service.CurrencyConversionService;
 import com.tecknobit.neutron.services.users.entity.NeutronUser;
 import com.tecknobit.neutron.services.users.repository.NeutronUsersRepository;
 import com.tecknobit.neutron.services.users.service.NeutronUsersService;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.RestController;
 
 /**
@@ -45,4 +47,34 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @RestController
 public abstract class DefaultNeutronController extends EquinoxController<NeutronUser, NeutronUsersRepository, NeutronUsersService> {
+
+    /**
+     * {@code CONVERSION_IN_PROGRESS_MESSAGE} error message used when the amounts of the revenues cannot be read or
+     * written because they are being converted in a new currency
+     *
+     * @since 1.0.5
+     */
+    public static final String CONVERSION_IN_PROGRESS_MESSAGE = "conversion_in_progress";
+
+    /**
+     * {@code conversionService} helper to convert the revenues in a new currency
+     *
+     * @since 1.0.5
+     */
+    @Autowired
+    private CurrencyConversionService conversionService;
+
+    /**
+     * Method to check whether the revenues of the authorized user are waiting to be converted or are being converted
+     * in its currency, in that case they are stored partly in the previous currency so their amounts cannot be read
+     * or written until the conversion is completed
+     *
+     * @return whether the revenues of the authorized user are being converted as boolean
+     *
+     * @apiNote must be invoked after the user has been authorized with {@link #isMe(String, String)}
+     * @since 1.0.5
+     */
+    protected boolean isConvertingCurrency() {
+        return me.getRevenuesCurrency() != me.getCurrency() || conversionService.isConverting(me.getId());
+    }
 }
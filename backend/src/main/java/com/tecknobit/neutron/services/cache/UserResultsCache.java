@@ -0,0 +1,194 @@
+package com.tecknobit.neutron.services.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * The {@code UserResultsCache} class is useful to cache in process the results computed for the users, for example
+ * the wallet status or the first page of the revenues. <br>
+ * The cache is bounded both by size, evicting the least recently used result, and by time. Each user has a revision
+ * which is bumped by every write on its data, the results computed with a previous revision are never served again
+ * and are left to the size and time based eviction, while the results computed while a write was in progress are not
+ * stored. <br>
+ * The revisions are taken from a single increasing sequence and are bounded as the results, when the revision of a
+ * user is evicted the user restarts from the last revision assigned, so a result computed before the eviction can
+ * never match a revision assigned after a following write
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+@Service
+public class UserResultsCache {
+
+    /**
+     * {@code KEY_SEPARATOR} the separator used to join the parts of the key of a result
+     */
+    private static final String KEY_SEPARATOR = ":";
+
+    /**
+     * {@code revisions} the current revision of the data of each user, ordered from the least recently used one
+     */
+    private final LinkedHashMap<String, Long> revisions;
+
+    /**
+     * {@code lastRevision} the last revision assigned, guarded by {@link #revisions}
+     */
+    private long lastRevision;
+
+    /**
+     * {@code evictedRevision} the revision assigned to the users not tracked in {@link #revisions}, it is raised to
+     * the {@link #lastRevision} whenever the revision of a user is evicted, guarded by {@link #revisions}
+     */
+    private long evictedRevision;
+
+    /**
+     * {@code results} the results cached, ordered from the least recently used one
+     */
+    private final LinkedHashMap<String, CachedResult> results;
+
+    /**
+     * {@code ttlMillis} how long a result is kept in cache, in milliseconds
+     */
+    private final long ttlMillis;
+
+    /**
+     * Constructor to init the cache
+     *
+     * @param maxEntries The max number of results kept in cache
+     * @param ttlSeconds How long a result is kept in cache, in seconds
+     */
+    @Autowired
+    public UserResultsCache(@Value("${neutron.cache.max-entries:10000}") int maxEntries,
+                            @Value("${neutron.cache.ttl-seconds:60}") long ttlSeconds) {
+        revisions = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                if(size() <= maxEntries)
+                    return false;
+                evictedRevision = lastRevision;
+                return true;
+            }
+        };
+        results = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        ttlMillis = ttlSeconds * 1000;
+    }
+
+    /**
+     * Method to get a result of a user from the cache, if it is not cached, is expired or has been computed with a
+     * previous revision it is loaded and then cached
+     *
+     * @param userId The identifier of the user owner of the result
+     * @param resultKey The key of the result, use {@link #resultKey(String, Object...)} to create it
+     * @param loader The loader used to compute the result when is not available in cache
+     *
+     * @return the result as {@link T}
+     *
+     * @param <T> The type of the result
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T getResult(String userId, String resultKey, Supplier<T> loader) {
+        String key = userId + KEY_SEPARATOR + resultKey;
+        long revision = getRevision(userId);
+        synchronized (results) {
+            CachedResult cachedResult = results.get(key);
+            if(cachedResult != null) {
+                if(cachedResult.revision() == revision && cachedResult.expiration() > System.currentTimeMillis())
+                    return (T) cachedResult.result();
+                results.remove(key);
+            }
+        }
+        T result = loader.get();
+        synchronized (results) {
+            if(revision == getRevision(userId))
+                results.put(key, new CachedResult(revision, result, System.currentTimeMillis() + ttlMillis));
+        }
+        return result;
+    }
+
+    /**
+     * Method to invalidate all the results of a user after a write on its data. The revision is bumped immediately
+     * and, when the write is executed in a transaction, also after its completion, so the results computed before the
+     * commit are not served
+     *
+     * @param userId The identifier of the user whose data have been changed
+     */
+    public void invalidate(String userId) {
+        bumpRevision(userId);
+        if(TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    bumpRevision(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * Method to get the current revision of the data of a user
+     *
+     * @param userId The identifier of the user
+     *
+     * @return the current revision as {@code long}
+     */
+    public long getRevision(String userId) {
+        synchronized (revisions) {
+            return revisions.computeIfAbsent(userId, id -> evictedRevision);
+        }
+    }
+
+    /**
+     * Method to bump the revision of a user, its cached results are not served anymore and are evicted by size or by
+     * time without scanning the cache
+     *
+     * @param userId The identifier of the user
+     */
+    private void bumpRevision(String userId) {
+        synchronized (revisions) {
+            revisions.put(userId, ++lastRevision);
+        }
+    }
+
+    /**
+     * Method to create the key of a result, the collections are sorted so the same filters always create the same key
+     *
+     * @param scope The scope of the result, for example the name of the operation which computes it
+     * @param parameters The parameters used to compute the result
+     *
+     * @return the key of the result as {@link String}
+     */
+    public static String resultKey(String scope, Object... parameters) {
+        StringJoiner key = new StringJoiner(KEY_SEPARATOR);
+        key.add(scope);
+        for (Object parameter : parameters) {
+            if(parameter instanceof Collection<?> collection)
+                key.add(new TreeSet<>(collection.stream().map(String::valueOf).toList()).toString());
+            else
+                key.add(String.valueOf(parameter));
+        }
+        return key.toString();
+    }
+
+    /**
+     * The {@code CachedResult} record is useful to store a result in the cache
+     *
+     * @param revision The revision of the data of the user used to compute the result
+     * @param result The result cached
+     * @param expiration When the result expires
+     */
+    private record CachedResult(long revision, Object result, long expiration) {
+    }
+
+}
@@ -0,0 +1,102 @@
+package com.tecknobit.neutron.services.revenues.batch;
+
+import com.tecknobit.neutron.services.revenues.service.RevenuesService;
+
+/**
+ * The {@code TicketEditItem} is useful to handle the new details of a ticket edited when the user request to
+ * {@link RevenuesService#editTickets(String, String, java.util.List)}
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+public class TicketEditItem {
+
+    /**
+     * {@code ticketId} the identifier of the ticket to edit
+     */
+    private final String ticketId;
+
+    /**
+     * {@code value} the amount value of the ticket
+     */
+    private final double value;
+
+    /**
+     * {@code title} the title of the ticket
+     */
+    private final String title;
+
+    /**
+     * {@code description} the description of the ticket
+     */
+    private final String description;
+
+    /**
+     * {@code openingTime} when the ticket has been opened
+     */
+    private final long openingTime;
+
+    /**
+     * Constructor to init the {@link TicketEditItem} class
+     *
+     * @param ticketId The identifier of the ticket to edit
+     * @param value The amount value of the ticket
+     * @param title The title of the ticket
+     * @param description The description of the ticket
+     * @param openingTime When the ticket has been opened
+     */
+    public TicketEditItem(String ticketId, double value, String title, String description, long openingTime) {
+        this.ticketId = ticketId;
+        this.value = value;
+        this.title = title;
+        this.description = description;
+        this.openingTime = openingTime;
+    }
+
+    /**
+     * Method to get {@link #ticketId} instance
+     *
+     * @return {@link #ticketId} instance as {@link String}
+     */
+    public String getTicketId() {
+        return ticketId;
+    }
+
+    /**
+     * Method to get {@link #value} instance
+     *
+     * @return {@link #value} instance as double
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Method to get {@link #title} instance
+     *
+     * @return {@link #title} instance as {@link String}
+     */
+    public String getTitle() {
+        return title;
+    }
+
+    /**
+     * Method to get {@link #description} instance
+     *
+     * @return {@link #description} instance as {@link String}
+     */
+    public String getDescription() {
+        return description;
+    }
+
+    /**
+     * Method to get {@link #openingTime} instance
+     *
+     * @return {@link #openingTime} instance as long
+     */
+    public long getOpeningTime() {
+        return openingTime;
+    }
+
+}
@@ -0,0 +1,116 @@
+package com.tecknobit.neutron.services.revenues.batch;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.List;
+
+import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
+import static com.tecknobit.equinoxbackend.apis.database.SQLConstants._WHERE_;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.OWNER_KEY;
+import static com.tecknobit.neutroncore.ContantsKt.*;
+
+/**
+ * The {@code TicketsEditBatchQuery} is useful to edit many pending tickets of a project with a single set-based
+ * {@code UPDATE}, the new details of the tickets are joined as a derived table with the tickets to edit
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @see TicketEditItem
+ *
+ * @since 1.0.5
+ */
+public class TicketsEditBatchQuery {
+
+    /**
+     * {@code EDITS_TABLE} the alias of the derived table of the new details of the tickets
+     */
+    private static final String EDITS_TABLE = "e";
+
+    /**
+     * {@code TICKETS_TABLE} the alias of the table of the tickets
+     */
+    private static final String TICKETS_TABLE = "t";
+
+    /**
+     * {@code edits} the new details of the tickets to edit
+     */
+    private final List<TicketEditItem> edits;
+
+    /**
+     * Constructor to init the {@link TicketsEditBatchQuery} class
+     *
+     * @param edits The new details of the tickets to edit
+     */
+    public TicketsEditBatchQuery(List<TicketEditItem> edits) {
+        this.edits = edits;
+    }
+
+    /**
+     * Method to execute the batch edit of the tickets
+     *
+     * @param entityManager The entity manager used to execute the query
+     * @param projectId The identifier of the project where the tickets are attached
+     * @param ownerId The identifier of the owner of the tickets
+     *
+     * @return the number of the tickets edited as int
+     */
+    public int execute(EntityManager entityManager, String projectId, String ownerId) {
+        Query query = entityManager.createNativeQuery(assembleQuery());
+        int index = 1;
+        for (TicketEditItem edit : edits) {
+            query.setParameter(index++, edit.getTicketId());
+            query.setParameter(index++, roundValue(edit.getValue(), 2));
+            query.setParameter(index++, edit.getTitle());
+            query.setParameter(index++, edit.getDescription());
+            query.setParameter(index++, edit.getOpeningTime());
+        }
+        query.setParameter(index++, projectId);
+        query.setParameter(index, ownerId);
+        return query.executeUpdate();
+    }
+
+    /**
+     * Method to assemble the {@code UPDATE} statement with a row of the derived table for each ticket to edit
+     *
+     * @return the statement as {@link String}
+     */
+    private String assembleQuery() {
+        StringBuilder editsTable = new StringBuilder();
+        int index = 1;
+        for (int j = 0; j < edits.size(); j++) {
+            if(j > 0)
+                editsTable.append(" UNION ALL ");
+            editsTable.append("SELECT ?").append(index++).append(" AS ").append(IDENTIFIER_KEY)
+                    .append(", ?").append(index++).append(" AS ").append(REVENUE_VALUE_KEY)
+                    .append(", ?").append(index++).append(" AS ").append(REVENUE_TITLE_KEY)
+                    .append(", ?").append(index++).append(" AS ").append(REVENUE_DESCRIPTION_KEY)
+                    .append(", ?").append(index++).append(" AS ").append(REVENUE_DATE_KEY);
+        }
+        return "UPDATE " + GENERAL_REVENUES_KEY + " AS " + TICKETS_TABLE +
+                " INNER JOIN (" + editsTable + ") AS " + EDITS_TABLE +
+                " ON " + EDITS_TABLE + "." + IDENTIFIER_KEY + "=" + TICKETS_TABLE + "." + IDENTIFIER_KEY +
+                " SET " +
+                assignColumn(REVENUE_VALUE_KEY) + "," +
+                assignColumn(REVENUE_TITLE_KEY) + "," +
+                assignColumn(REVENUE_DESCRIPTION_KEY) + "," +
+                assignColumn(REVENUE_DATE_KEY) +
+                _WHERE_ + TICKETS_TABLE + ".dtype='ticket'" +
+                " AND " + TICKETS_TABLE + "." + PROJECT_REVENUE_KEY + "=?" + index++ +
+                " AND " + TICKETS_TABLE + "." + OWNER_KEY + "=?" + index +
+                " AND " + TICKETS_TABLE + "." + CLOSING_DATE_KEY + "=-1";
+    }
+
+    /**
+     * Method to assign to a column of the tickets the value of the same column of the derived table
+     *
+     * @param column The column to assign
+     *
+     * @return the assignment as {@link String}
+     */
+    private String assignColumn(String column) {
+        return TICKETS_TABLE + "." + column + "=" + EDITS_TABLE + "." + column;
+    }
+
+}
@@ -4,23 +4,33 @@ package com.tecknobit.neutron.services.revenues.controller;
 import com.tecknobit.apimanager.annotations.RequestPath;
 import com.tecknobit.equinoxbackend.environment.services.DefaultEquinoxController;
 import com.tecknobit.neutron.services.DefaultNeutronController;
+import com.tecknobit.neutron.services.revenues.batch.TicketEditItem;
 import com.tecknobit.neutron.services.revenues.entities.*;
 import com.tecknobit.neutron.services.revenues.service.RevenuesService;
+import com.tecknobit.neutron.services.revenues.service.TicketsExportService;
 import com.tecknobit.neutroncore.enums.RevenuePeriod;
+import com.tecknobit.neutroncore.enums.TicketsBatchOperation;
+import com.tecknobit.neutroncore.enums.TicketsExportFormat;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.*;
 
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.*;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
 import static com.tecknobit.equinoxcore.network.EquinoxBaseEndpointsSet.BASE_EQUINOX_ENDPOINT;
 import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.*;
+import static com.tecknobit.neutroncore.dtos.CursorPaginatedResponse.CURSOR_KEY;
 import static com.tecknobit.neutroncore.ContantsKt.*;
-import static com.tecknobit.neutroncore.helpers.NeutronEndpoints.PROJECT_BALANCE_ENDPOINT;
-import static com.tecknobit.neutroncore.helpers.NeutronEndpoints.TICKETS_ENDPOINT;
+import static com.tecknobit.neutroncore.helpers.NeutronEndpoints.*;
 import static com.tecknobit.neutroncore.helpers.NeutronInputsValidator.INSTANCE;
 import static com.tecknobit.neutroncore.helpers.NeutronInputsValidator.MAX_REVENUE_LABELS_NUMBER;
 
@@ -40,14 +50,21 @@ public class RevenuesController extends DefaultNeutronController {
      */
     private final RevenuesService revenuesService;
 
+    /**
+     * {@code ticketsExportService} helper to export the tickets of the projects
+     */
+    private final TicketsExportService ticketsExportService;
+
     /**
      * Constructor to init the controller
      *
      * @param revenuesService The helper to manage the revenues database operations
+     * @param ticketsExportService The helper to export the tickets of the projects
      */
     @Autowired
-    public RevenuesController(RevenuesService revenuesService) {
+    public RevenuesController(RevenuesService revenuesService, TicketsExportService ticketsExportService) {
         this.revenuesService = revenuesService;
+        this.ticketsExportService = ticketsExportService;
     }
 
     /**
@@ -87,6 +104,8 @@ public class RevenuesController extends DefaultNeutronController {
      * @param retrieveGeneralRevenues Whether include the {@link GeneralRevenue}
      * @param retrieveProjectRevenues Whether include the {@link ProjectRevenue}
      * @param labels The labels used to filter the data
+     * @param cursor The cursor of the keyset pagination, when specified the page is fetched with the keyset
+     *               pagination and the {@code page} value is ignored, an empty value requests the first page
      *
      * @return the result of the request as {@link String}
      */
@@ -104,10 +123,21 @@ public class RevenuesController extends DefaultNeutronController {
             @RequestParam(name = PROJECT_REVENUES_KEY, defaultValue = "true", required = false) boolean retrieveProjectRevenues,
             @RequestParam(name = LABELS_KEY, required = false) List<String> labels,
             @RequestParam(name = PAGE_KEY, defaultValue = DEFAULT_PAGE_HEADER_VALUE, required = false) int page,
-            @RequestParam(name = PAGE_SIZE_KEY, defaultValue = DEFAULT_PAGE_SIZE_HEADER_VALUE, required = false) int pageSize
+            @RequestParam(name = PAGE_SIZE_KEY, defaultValue = DEFAULT_PAGE_SIZE_HEADER_VALUE, required = false) int pageSize,
+            @RequestParam(name = CURSOR_KEY, required = false) String cursor
     ) {
         if(!isMe(userId, token))
             return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return (T) failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
+        if(cursor != null) {
+            try {
+                return (T) successResponse(revenuesService.getRevenues(userId, cursor, pageSize, period,
+                        retrieveGeneralRevenues, retrieveProjectRevenues, labels));
+            } catch (IllegalArgumentException e) {
+                return (T) failedResponse(WRONG_PROCEDURE_MESSAGE);
+            }
+        }
         return (T) successResponse(revenuesService.getRevenues(userId, page, pageSize, period, retrieveGeneralRevenues,
                 retrieveProjectRevenues, labels));
     }
@@ -147,6 +177,8 @@ public class RevenuesController extends DefaultNeutronController {
     ) {
         if(!isMe(userId, token))
             return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
         loadJsonHelper(payload);
         double revenueValue = jsonHelper.getDouble(REVENUE_VALUE_KEY, 0);
         String revenueTitle = jsonHelper.getString(REVENUE_TITLE_KEY);
@@ -208,6 +240,8 @@ public class RevenuesController extends DefaultNeutronController {
     ) {
         if(!isMe(userId, token) || !revenuesService.revenueExistsById(userId, revenueId))
             return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
         loadJsonHelper(payload);
         double revenueValue = jsonHelper.getDouble(REVENUE_VALUE_KEY, 0);
         String revenueTitle = jsonHelper.getString(REVENUE_TITLE_KEY);
@@ -282,9 +316,11 @@ public class RevenuesController extends DefaultNeutronController {
     ) {
         if(!isMe(userId, token))
             return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return (T) failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
         Revenue revenue = revenuesService.getGeneralRevenue(userId, revenueId);
         if(revenue == null)
-            revenue = revenuesService.getProjectRevenue(userId, revenueId);
+            revenue = revenuesService.getProjectRevenueWithTickets(userId, revenueId);
         if(revenue == null)
             revenue = revenuesService.getTicketRevenue(revenueId, userId);
         if(revenue == null)
@@ -315,7 +351,9 @@ public class RevenuesController extends DefaultNeutronController {
     ) {
         if(!isMe(userId, token))
             return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
-        ProjectRevenue projectRevenue = revenuesService.getProjectRevenue(userId, projectId);
+        if(isConvertingCurrency())
+            return (T) failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
+        ProjectRevenue projectRevenue = revenuesService.getProjectRevenueWithTickets(userId, projectId);
         if(projectRevenue == null)
             return (T) failedResponse(WRONG_PROCEDURE_MESSAGE);
         return (T) successResponse(projectRevenue);
@@ -348,12 +386,96 @@ public class RevenuesController extends DefaultNeutronController {
     ) {
         if(!isMe(userId, token))
             return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return (T) failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
         ProjectRevenue project = revenuesService.getProjectRevenue(userId, projectId);
         if(project == null)
             return (T) failedResponse(WRONG_PROCEDURE_MESSAGE);
         return (T) successResponse(revenuesService.getProjectBalance(project, period, retrieveClosedTickets));
     }
 
+    /**
+     * Method to get the statistics of the tickets of a project
+     *
+     * @param userId The identifier of the user
+     * @param projectId The project identifier
+     * @param token The token of the user
+     *
+     * @return the result of the request as {@link String}
+     */
+    @GetMapping(
+            path = PROJECTS_PATH_KEY + "{" + REVENUE_IDENTIFIER_KEY + "}" + PROJECT_STATS_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{user_id}/revenues/projects/{revenue_id}/stats", method = GET)
+    public <T> T getProjectStats(
+            @PathVariable(USER_IDENTIFIER_KEY) String userId,
+            @PathVariable(REVENUE_IDENTIFIER_KEY) String projectId,
+            @RequestHeader(TOKEN_KEY) String token
+    ) {
+        if(!isMe(userId, token))
+            return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return (T) failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
+        if(revenuesService.getProjectRevenue(userId, projectId) == null)
+            return (T) failedResponse(WRONG_PROCEDURE_MESSAGE);
+        return (T) successResponse(revenuesService.getProjectStats(userId, projectId));
+    }
+
+    /**
+     * Method to export all the tickets of a project, the tickets are streamed in the response while they are read
+     *
+     * @param userId The identifier of the user
+     * @param projectId The project identifier
+     * @param token The token of the user
+     * @param format The format of the export
+     *
+     * @return the exported tickets or the result of the failed request as {@link ResponseEntity} of
+     * {@link StreamingResponseBody}
+     * @apiNote the return type is declared explicitly so the body is written asynchronously by the streaming handler
+     */
+    @GetMapping(
+            path = PROJECTS_PATH_KEY + "{" + REVENUE_IDENTIFIER_KEY + "}" + TICKETS_ENDPOINT + TICKETS_EXPORT_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{user_id}/revenues/projects/{revenue_id}/tickets/export", method = GET)
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            @PathVariable(USER_IDENTIFIER_KEY) String userId,
+            @PathVariable(REVENUE_IDENTIFIER_KEY) String projectId,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestParam(name = EXPORT_FORMAT_KEY, defaultValue = "CSV", required = false) TicketsExportFormat format
+    ) {
+        if(!isMe(userId, token))
+            return failedExport(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return failedExport(CONVERSION_IN_PROGRESS_MESSAGE);
+        if(revenuesService.getProjectRevenue(userId, projectId) == null)
+            return failedExport(WRONG_PROCEDURE_MESSAGE);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + projectId + "-tickets." +
+                        format.getExtension() + "\"")
+                .body(ticketsExportService.exportTickets(projectId, userId, format));
+    }
+
+    /**
+     * Method to wrap the result of a failed export request
+     *
+     * @param error The error occurred
+     *
+     * @return the result of the failed request as {@link ResponseEntity} of {@link StreamingResponseBody}
+     */
+    private ResponseEntity<StreamingResponseBody> failedExport(String error) {
+        byte[] response = String.valueOf(failedResponse(error)).getBytes(StandardCharsets.UTF_8);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> outputStream.write(response));
+    }
+
     /**
      * Method to add a new ticket to a project
      *
@@ -389,6 +511,8 @@ public class RevenuesController extends DefaultNeutronController {
     ) {
         if(!isMe(userId, token))
             return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
         ProjectRevenue projectRevenue = revenuesService.getProjectRevenue(userId, projectId);
         if (projectRevenue == null)
             return failedResponse(WRONG_PROCEDURE_MESSAGE);
@@ -397,10 +521,11 @@ public class RevenuesController extends DefaultNeutronController {
         String ticketTitle = jsonHelper.getString(REVENUE_TITLE_KEY);
         String ticketDescription = jsonHelper.getString(REVENUE_DESCRIPTION_KEY);
         long openingTime = jsonHelper.getLong(REVENUE_DATE_KEY);
-        if (invalidTicketPayload(ticketRevenue, ticketTitle, ticketDescription) || projectRevenue.hasTicket(ticketTitle))
+        if (invalidTicketPayload(ticketRevenue, ticketTitle, ticketDescription)
+                || revenuesService.ticketExists(projectId, ticketTitle))
             return failedResponse(WRONG_PROCEDURE_MESSAGE);
         revenuesService.addTicket(generateIdentifier(), ticketRevenue, ticketTitle, ticketDescription,
-                openingTime, projectId, userId);
+                openingTime, projectRevenue, userId);
         return successResponse();
     }
 
@@ -441,10 +566,12 @@ public class RevenuesController extends DefaultNeutronController {
     ) {
         if(!isMe(userId, token))
             return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
         ProjectRevenue projectRevenue = revenuesService.getProjectRevenue(userId, projectId);
         if (projectRevenue == null)
             return failedResponse(WRONG_PROCEDURE_MESSAGE);
-        TicketRevenue currentTicket = projectRevenue.hasTicketById(ticketId);
+        TicketRevenue currentTicket = revenuesService.getTicketRevenue(ticketId, userId, projectId);
         if(currentTicket == null || currentTicket.isClosed())
             return failedResponse(WRONG_PROCEDURE_MESSAGE);
         loadJsonHelper(payload);
@@ -454,10 +581,119 @@ public class RevenuesController extends DefaultNeutronController {
         long openingTime = jsonHelper.getLong(REVENUE_DATE_KEY);
         if (invalidTicketPayload(ticketRevenue, ticketTitle, ticketDescription))
             return failedResponse(WRONG_PROCEDURE_MESSAGE);
-        revenuesService.editTicket(ticketId, ticketRevenue, ticketTitle, ticketDescription, openingTime);
+        revenuesService.editTicket(ticketId, ticketRevenue, ticketTitle, ticketDescription, openingTime,
+                projectRevenue, userId);
+        return successResponse();
+    }
+
+    /**
+     * Method to execute an operation on many tickets of a project at once, all the tickets are handled in a single
+     * transaction
+     *
+     * @param userId The identifier of the user
+     * @param projectId The identifier of the project
+     * @param token The token of the user
+     * @param payload The payload of the request
+     * <pre>
+     *      {@code
+     *              {
+     *                  "tickets_operation": "the operation to execute: CLOSE, EDIT or DELETE", -> [String]
+     *                  "tickets": "the identifiers of the tickets to close or to delete", -> [String[]]
+     *                  "tickets": "the tickets to edit", -> [
+     *                      {
+     *                          "ticket_id": "the identifier of the ticket", -> [String]
+     *                          "value": "the amount value of the ticket", -> [double]
+     *                          "title": "the title of the ticket", -> [String]
+     *                          "description": "the description of the ticket", -> [String]
+     *                          "revenue_date": "the insertion date of the ticket", -> [long]
+     *                      }
+     *                  ]
+     *              }
+     *      }
+     * </pre>
+     *
+     * @return the result of the request as {@link String}
+     */
+    @PatchMapping(
+            path = PROJECTS_PATH_KEY + "{" + REVENUE_IDENTIFIER_KEY + "}" + TICKETS_ENDPOINT + TICKETS_BATCH_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{user_id}/revenues/projects/{revenue_id}/tickets/batch", method = PATCH)
+    public String executeTicketsBatch(
+            @PathVariable(USER_IDENTIFIER_KEY) String userId,
+            @PathVariable(REVENUE_IDENTIFIER_KEY) String projectId,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestBody Map<String, Object> payload
+    ) {
+        if(!isMe(userId, token))
+            return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
+        ProjectRevenue projectRevenue = revenuesService.getProjectRevenue(userId, projectId);
+        if (projectRevenue == null)
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        loadJsonHelper(payload);
+        JSONArray jTickets = jsonHelper.getJSONArray(TICKETS_KEY, new JSONArray());
+        TicketsBatchOperation operation;
+        List<String> ticketsIds = null;
+        List<TicketEditItem> edits = null;
+        try {
+            operation = TicketsBatchOperation.valueOf(jsonHelper.getString(TICKETS_OPERATION_KEY));
+            if(operation == TicketsBatchOperation.EDIT)
+                edits = extractTicketsEdits(jTickets);
+            else
+                ticketsIds = extractTicketsIds(jTickets);
+        } catch (IllegalArgumentException | NullPointerException | JSONException e) {
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
+        }
+        boolean executed = switch (operation) {
+            case CLOSE -> revenuesService.closeTickets(userId, projectRevenue, ticketsIds);
+            case DELETE -> revenuesService.deleteTickets(userId, projectRevenue, ticketsIds);
+            case EDIT -> edits != null && revenuesService.editTickets(userId, projectRevenue, edits);
+        };
+        if(!executed)
+            return failedResponse(WRONG_PROCEDURE_MESSAGE);
         return successResponse();
     }
 
+    /**
+     * Method to extract the identifiers of the tickets of a batch operation from the payload
+     *
+     * @param jTickets The tickets of the payload
+     *
+     * @return the identifiers of the tickets as {@link List} of {@link String}
+     */
+    private List<String> extractTicketsIds(JSONArray jTickets) {
+        List<String> ticketsIds = new ArrayList<>();
+        for (int j = 0; j < jTickets.length(); j++)
+            ticketsIds.add(jTickets.getString(j));
+        return ticketsIds;
+    }
+
+    /**
+     * Method to extract the tickets to edit of a batch operation from the payload
+     *
+     * @param jTickets The tickets of the payload
+     *
+     * @return the tickets to edit as {@link List} of {@link TicketEditItem}, null if any ticket is not valid
+     */
+    private List<TicketEditItem> extractTicketsEdits(JSONArray jTickets) {
+        List<TicketEditItem> edits = new ArrayList<>();
+        for (int j = 0; j < jTickets.length(); j++) {
+            JSONObject jTicket = jTickets.getJSONObject(j);
+            double ticketRevenue = jTicket.getDouble(REVENUE_VALUE_KEY);
+            String ticketTitle = jTicket.getString(REVENUE_TITLE_KEY);
+            String ticketDescription = jTicket.getString(REVENUE_DESCRIPTION_KEY);
+            if (invalidTicketPayload(ticketRevenue, ticketTitle, ticketDescription))
+                return null;
+            edits.add(new TicketEditItem(jTicket.getString(TICKET_IDENTIFIER_KEY), ticketRevenue, ticketTitle,
+                    ticketDescription, jTicket.getLong(REVENUE_DATE_KEY)));
+        }
+        return edits;
+    }
+
     private boolean invalidTicketPayload(double ticketRevenue, String ticketTitle, String ticketDescription) {
         return !INSTANCE.isRevenueValueValid(ticketRevenue) || !INSTANCE.isRevenueTitleValid(ticketTitle)
                 || !INSTANCE.isRevenueDescriptionValid(ticketDescription);
@@ -474,6 +710,8 @@ public class RevenuesController extends DefaultNeutronController {
      * @param period The period to use to select the tickets
      * @param retrievePendingTickets Whether include the pending tickets
      * @param retrieveClosedTickets Whether include the closed tickets
+     * @param cursor The cursor of the keyset pagination, when specified the page is fetched with the keyset
+     *               pagination and the {@code page} value is ignored, an empty value requests the first page
      *
      * @return the result of the request as {@link String}
      */
@@ -492,12 +730,59 @@ public class RevenuesController extends DefaultNeutronController {
             @RequestParam(name = PENDING_TICKETS_KEY, defaultValue = "true", required = false) boolean retrievePendingTickets,
             @RequestParam(name = CLOSED_TICKETS_KEY, defaultValue = "true", required = false) boolean retrieveClosedTickets,
             @RequestParam(name = PAGE_KEY, defaultValue = DEFAULT_PAGE_HEADER_VALUE, required = false) int page,
-            @RequestParam(name = PAGE_SIZE_KEY, defaultValue = DEFAULT_PAGE_SIZE_HEADER_VALUE, required = false) int pageSize
+            @RequestParam(name = PAGE_SIZE_KEY, defaultValue = DEFAULT_PAGE_SIZE_HEADER_VALUE, required = false) int pageSize,
+            @RequestParam(name = CURSOR_KEY, required = false) String cursor
     ) {
         if(!isMe(userId, token) || revenuesService.getProjectRevenue(userId, projectId) == null)
             return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
-        return (T) successResponse(revenuesService.getTickets(projectId, page, pageSize, period, retrievePendingTickets,
-                retrieveClosedTickets));
+        if(isConvertingCurrency())
+            return (T) failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
+        if(cursor != null) {
+            try {
+                return (T) successResponse(revenuesService.getTickets(projectId, cursor, pageSize, period,
+                        retrievePendingTickets, retrieveClosedTickets));
+            } catch (IllegalArgumentException e) {
+                return (T) failedResponse(WRONG_PROCEDURE_MESSAGE);
+            }
+        }
+        return (T) successResponse(revenuesService.getTickets(userId, projectId, page, pageSize, period,
+                retrievePendingTickets, retrieveClosedTickets));
+    }
+
+    /**
+     * Method to get the pending tickets of all the projects of the user, ordered by their revenue date
+     *
+     * @param userId The identifier of the user
+     * @param token The token of the user
+     * @param pageSize  The size of the items to insert in the page
+     * @param cursor The cursor of the keyset pagination, an empty value requests the first page
+     *
+     * @return the result of the request as {@link String}
+     *
+     * @since 1.0.5
+     */
+    @GetMapping(
+            path = TICKETS_ENDPOINT + PENDING_TICKETS_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{user_id}/revenues/tickets/pending", method = GET)
+    public <T> T getPendingTickets(
+            @PathVariable(USER_IDENTIFIER_KEY) String userId,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestParam(name = PAGE_SIZE_KEY, defaultValue = DEFAULT_PAGE_SIZE_HEADER_VALUE, required = false) int pageSize,
+            @RequestParam(name = CURSOR_KEY, required = false) String cursor
+    ) {
+        if(!isMe(userId, token))
+            return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return (T) failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
+        try {
+            return (T) successResponse(revenuesService.getPendingTickets(userId, cursor, pageSize));
+        } catch (IllegalArgumentException e) {
+            return (T) failedResponse(WRONG_PROCEDURE_MESSAGE);
+        }
     }
 
     /**
@@ -526,10 +811,12 @@ public class RevenuesController extends DefaultNeutronController {
     ) {
         if(!isMe(userId, token))
             return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
         TicketRevenue ticketRevenue = revenuesService.getTicketRevenue(ticketId, userId, projectId);
         if(ticketRevenue == null || ticketRevenue.isClosed())
             return failedResponse(WRONG_PROCEDURE_MESSAGE);
-        revenuesService.closeTicketRevenue(ticketId, userId, projectId);
+        revenuesService.closeTicketRevenue(ticketRevenue, userId, projectId);
         return successResponse();
     }
 
@@ -559,10 +846,12 @@ public class RevenuesController extends DefaultNeutronController {
     ) {
         if(!isMe(userId, token))
             return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
         TicketRevenue ticketRevenue = revenuesService.getTicketRevenue(ticketId, userId, projectId);
         if(ticketRevenue == null)
             return failedResponse(WRONG_PROCEDURE_MESSAGE);
-        revenuesService.deleteTicketRevenue(ticketRevenue);
+        revenuesService.deleteTicketRevenue(ticketRevenue, userId);
         return successResponse();
     }
 
@@ -589,6 +878,8 @@ public class RevenuesController extends DefaultNeutronController {
     ) {
         if(!isMe(userId, token))
             return failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
         if(!revenuesService.deleteRevenue(userId, revenueId))
             return failedResponse(WRONG_PROCEDURE_MESSAGE);
         return successResponse();
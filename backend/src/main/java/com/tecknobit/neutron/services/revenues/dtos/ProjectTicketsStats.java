@@ -0,0 +1,48 @@
+package com.tecknobit.neutron.services.revenues.dtos;
+
+/**
+ * The {@code ProjectTicketsStats} interface is the projection used to map the statistics of the tickets of a project
+ * aggregated by a single query
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+public interface ProjectTicketsStats {
+
+    /**
+     * Method to get the number of the pending tickets
+     *
+     * @return the number of the pending tickets as {@link Long}
+     */
+    Long getPending();
+
+    /**
+     * Method to get the number of the closed tickets
+     *
+     * @return the number of the closed tickets as {@link Long}
+     */
+    Long getClosed();
+
+    /**
+     * Method to get the sum of the values of the pending tickets
+     *
+     * @return the sum of the values of the pending tickets as {@link Double}
+     */
+    Double getOutstanding();
+
+    /**
+     * Method to get the sum of the values of the closed tickets
+     *
+     * @return the sum of the values of the closed tickets as {@link Double}
+     */
+    Double getCollected();
+
+    /**
+     * Method to get the average time elapsed between the opening and the closing of the closed tickets
+     *
+     * @return the average time to close the tickets as {@link Double}, {@code null} if no ticket has been closed
+     */
+    Double getDuration();
+
+}
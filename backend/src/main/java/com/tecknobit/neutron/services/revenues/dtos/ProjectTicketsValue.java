@@ -0,0 +1,27 @@
+package com.tecknobit.neutron.services.revenues.dtos;
+
+/**
+ * The {@code ProjectTicketsValue} interface is the projection used to map the sum of the values of the tickets of a
+ * project which fall in a period
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+public interface ProjectTicketsValue {
+
+    /**
+     * Method to get the identifier of the project
+     *
+     * @return the identifier of the project as {@link String}
+     */
+    String getId();
+
+    /**
+     * Method to get the sum of the values of the tickets of the project
+     *
+     * @return the sum of the values of the tickets as {@link Double}
+     */
+    Double getAmount();
+
+}
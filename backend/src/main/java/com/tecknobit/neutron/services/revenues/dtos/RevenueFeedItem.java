@@ -0,0 +1,32 @@
+package com.tecknobit.neutron.services.revenues.dtos;
+
+/**
+ * The {@code RevenueFeedItem} interface is the projection used to map an item of the merged feed of the general
+ * revenues and of the projects of a user
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+public interface RevenueFeedItem {
+
+    /**
+     * {@code PROJECT_FEED_KIND} the kind of the items which are projects
+     */
+    String PROJECT_FEED_KIND = "project";
+
+    /**
+     * Method to get the identifier of the revenue
+     *
+     * @return the identifier of the revenue as {@link String}
+     */
+    String getId();
+
+    /**
+     * Method to get the kind of the revenue, {@code general} or {@link #PROJECT_FEED_KIND}
+     *
+     * @return the kind of the revenue as {@link String}
+     */
+    String getKind();
+
+}
@@ -0,0 +1,120 @@
+package com.tecknobit.neutron.services.revenues.dtos;
+
+import com.tecknobit.neutron.services.revenues.entities.Revenue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * The {@code RevenuesCursor} class is useful to represent the position reached by the keyset pagination of the
+ * revenues. The revenues are ordered by date and then by identifier, both descending, so the cursor is the pair of
+ * the date and of the identifier of the last revenue sent and the next page starts just after it. <br>
+ * The cursor is shared with the clients as an opaque base64 value
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+public class RevenuesCursor {
+
+    /**
+     * {@code FIRST_PAGE_CURSOR} the cursor value used to request the first page
+     */
+    public static final String FIRST_PAGE_CURSOR = "";
+
+    /**
+     * {@code FIRST_PAGE} the cursor placed before all the revenues, used to fetch the first page
+     */
+    public static final RevenuesCursor FIRST_PAGE = new RevenuesCursor(Long.MAX_VALUE, FIRST_PAGE_CURSOR);
+
+    /**
+     * {@code CURSOR_SEPARATOR} the separator between the date and the identifier in the encoded cursor
+     */
+    private static final char CURSOR_SEPARATOR = ':';
+
+    /**
+     * {@code revenueDate} the date of the last revenue sent
+     */
+    private final long revenueDate;
+
+    /**
+     * {@code revenueId} the identifier of the last revenue sent
+     */
+    private final String revenueId;
+
+    /**
+     * Constructor to init the cursor
+     *
+     * @param revenueDate The date of the last revenue sent
+     * @param revenueId The identifier of the last revenue sent
+     */
+    public RevenuesCursor(long revenueDate, String revenueId) {
+        this.revenueDate = revenueDate;
+        this.revenueId = revenueId;
+    }
+
+    /**
+     * Constructor to init the cursor
+     *
+     * @param revenue The last revenue sent
+     */
+    public RevenuesCursor(Revenue revenue) {
+        this(revenue.getRevenueTimestamp(), revenue.getId());
+    }
+
+    /**
+     * Method to get {@link #revenueDate} instance
+     *
+     * @return {@link #revenueDate} instance as long
+     */
+    public long getRevenueDate() {
+        return revenueDate;
+    }
+
+    /**
+     * Method to get {@link #revenueId} instance
+     *
+     * @return {@link #revenueId} instance as {@link String}
+     */
+    public String getRevenueId() {
+        return revenueId;
+    }
+
+    /**
+     * Method to encode the cursor in the opaque value shared with the clients
+     *
+     * @return the cursor encoded as {@link String}
+     */
+    public String encode() {
+        String cursor = revenueDate + String.valueOf(CURSOR_SEPARATOR) + revenueId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Method to decode a cursor sent by a client, the {@link #FIRST_PAGE_CURSOR} is decoded as the {@link #FIRST_PAGE}
+     * cursor
+     *
+     * @param cursor The cursor to decode
+     *
+     * @return the cursor decoded as {@link RevenuesCursor}
+     *
+     * @throws IllegalArgumentException when the cursor is not valid
+     */
+    public static RevenuesCursor decode(String cursor) {
+        if(cursor == null || cursor.equals(FIRST_PAGE_CURSOR))
+            return FIRST_PAGE;
+        String decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separatorIndex = decodedCursor.indexOf(CURSOR_SEPARATOR);
+        if(separatorIndex <= 0)
+            throw new IllegalArgumentException("Invalid cursor");
+        try {
+            return new RevenuesCursor(
+                    Long.parseLong(decodedCursor.substring(0, separatorIndex)),
+                    decodedCursor.substring(separatorIndex + 1)
+            );
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+
+}
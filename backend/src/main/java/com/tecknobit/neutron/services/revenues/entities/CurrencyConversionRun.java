@@ -0,0 +1,335 @@
+package com.tecknobit.neutron.services.revenues.entities;
+
+import com.tecknobit.equinoxbackend.annotations.EmptyConstructor;
+import com.tecknobit.neutroncore.enums.NeutronCurrency;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.OWNER_KEY;
+import static com.tecknobit.neutroncore.ContantsKt.*;
+import static com.tecknobit.neutroncore.dtos.CurrencyConversionStatus.FROM_CURRENCY_KEY;
+import static com.tecknobit.neutroncore.dtos.CurrencyConversionStatus.TARGET_CURRENCY_KEY;
+import static jakarta.persistence.EnumType.STRING;
+
+/**
+ * The {@code CurrencyConversionRun} class is useful to represent the persisted state of the conversion of the revenues
+ * of a user in a new currency with the exchange rates of a specific snapshot. The revenues are converted in chunks
+ * ordered by their identifier and the {@link #checkpoint} is advanced in the same transaction of each chunk, so when
+ * the backend is restarted the conversion is resumed from the last chunk committed without converting a row twice
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @see com.tecknobit.neutron.services.revenues.service.CurrencyConversionService
+ *
+ * @since 1.0.5
+ */
+@Entity
+@Table(name = CURRENCY_CONVERSION_RUNS_KEY)
+public class CurrencyConversionRun {
+
+    /**
+     * {@code NO_CHECKPOINT} the checkpoint of a phase in which no chunk has been converted yet
+     */
+    public static final String NO_CHECKPOINT = "";
+
+    /**
+     * {@code ConversionPhase} list of the phases of a conversion, executed in order
+     */
+    public enum ConversionPhase {
+
+        /**
+         * {@code GENERAL_REVENUES} the general revenues, the projects and the tickets are converted
+         */
+        GENERAL_REVENUES,
+
+        /**
+         * {@code INITIAL_REVENUES} the initial revenues of the projects are converted
+         */
+        INITIAL_REVENUES,
+
+        /**
+         * {@code ROLLUPS} the rollups and the counters of the projects are regenerated from the converted revenues
+         */
+        ROLLUPS;
+
+        /**
+         * Method to get the phase executed after this one
+         *
+         * @return the next phase as {@link ConversionPhase}
+         */
+        public ConversionPhase next() {
+            return values()[Math.min(ordinal() + 1, ROLLUPS.ordinal())];
+        }
+
+    }
+
+    /**
+     * {@code id} the composite identifier of the run
+     */
+    @EmbeddedId
+    private final CurrencyConversionRunId id;
+
+    /**
+     * {@code fromCurrency} the currency from which the revenues are converted
+     */
+    @Enumerated(value = STRING)
+    @Column(
+            name = FROM_CURRENCY_KEY,
+            columnDefinition = "VARCHAR(20) NOT NULL"
+    )
+    private final NeutronCurrency fromCurrency;
+
+    /**
+     * {@code targetCurrency} the currency in which the revenues are converted
+     */
+    @Enumerated(value = STRING)
+    @Column(
+            name = TARGET_CURRENCY_KEY,
+            columnDefinition = "VARCHAR(20) NOT NULL"
+    )
+    private final NeutronCurrency targetCurrency;
+
+    /**
+     * {@code conversionFactor} the factor applied to the values, taken from the snapshot when the run is started so
+     * each chunk is converted with the same rate
+     */
+    @Column(name = CONVERSION_FACTOR_KEY)
+    private final double conversionFactor;
+
+    /**
+     * {@code phase} the phase currently executed
+     */
+    @Enumerated(value = STRING)
+    @Column(
+            name = CONVERSION_PHASE_KEY,
+            columnDefinition = "VARCHAR(20) NOT NULL"
+    )
+    private final ConversionPhase phase;
+
+    /**
+     * {@code checkpoint} the identifier of the last row converted in the current phase, {@link #NO_CHECKPOINT} when no
+     * chunk has been converted yet
+     */
+    @Column(
+            name = CONVERSION_CHECKPOINT_KEY,
+            columnDefinition = "VARCHAR(255) NOT NULL DEFAULT ''"
+    )
+    private final String checkpoint;
+
+    /**
+     * {@code convertedRows} the number of the rows converted so far
+     */
+    @Column(name = CONVERTED_ROWS_KEY)
+    private final long convertedRows;
+
+    /**
+     * {@code totalRows} the number of the rows to convert counted when the run is started
+     */
+    @Column(name = TOTAL_ROWS_KEY)
+    private final long totalRows;
+
+    /**
+     * Constructor to init the {@link CurrencyConversionRun} class
+     */
+    @EmptyConstructor
+    public CurrencyConversionRun() {
+        this(null, null, null, 1, null, NO_CHECKPOINT, 0, 0);
+    }
+
+    /**
+     * Constructor to init the {@link CurrencyConversionRun} class
+     *
+     * @param id The composite identifier of the run
+     * @param fromCurrency The currency from which the revenues are converted
+     * @param targetCurrency The currency in which the revenues are converted
+     * @param conversionFactor The factor applied to the values
+     * @param totalRows The number of the rows to convert
+     */
+    public CurrencyConversionRun(CurrencyConversionRunId id, NeutronCurrency fromCurrency,
+                                 NeutronCurrency targetCurrency, double conversionFactor, long totalRows) {
+        this(id, fromCurrency, targetCurrency, conversionFactor, ConversionPhase.GENERAL_REVENUES, NO_CHECKPOINT, 0,
+                totalRows);
+    }
+
+    /**
+     * Constructor to init the {@link CurrencyConversionRun} class
+     *
+     * @param id The composite identifier of the run
+     * @param fromCurrency The currency from which the revenues are converted
+     * @param targetCurrency The currency in which the revenues are converted
+     * @param conversionFactor The factor applied to the values
+     * @param phase The phase currently executed
+     * @param checkpoint The identifier of the last row converted in the current phase
+     * @param convertedRows The number of the rows converted so far
+     * @param totalRows The number of the rows to convert
+     */
+    public CurrencyConversionRun(CurrencyConversionRunId id, NeutronCurrency fromCurrency,
+                                 NeutronCurrency targetCurrency, double conversionFactor, ConversionPhase phase,
+                                 String checkpoint, long convertedRows, long totalRows) {
+        this.id = id;
+        this.fromCurrency = fromCurrency;
+        this.targetCurrency = targetCurrency;
+        this.conversionFactor = conversionFactor;
+        this.phase = phase;
+        this.checkpoint = checkpoint;
+        this.convertedRows = convertedRows;
+        this.totalRows = totalRows;
+    }
+
+    /**
+     * Method to get {@link #id} instance
+     *
+     * @return {@link #id} instance as {@link CurrencyConversionRunId}
+     */
+    public CurrencyConversionRunId getId() {
+        return id;
+    }
+
+    /**
+     * Method to get {@link #fromCurrency} instance
+     *
+     * @return {@link #fromCurrency} instance as {@link NeutronCurrency}
+     */
+    public NeutronCurrency getFromCurrency() {
+        return fromCurrency;
+    }
+
+    /**
+     * Method to get {@link #targetCurrency} instance
+     *
+     * @return {@link #targetCurrency} instance as {@link NeutronCurrency}
+     */
+    public NeutronCurrency getTargetCurrency() {
+        return targetCurrency;
+    }
+
+    /**
+     * Method to get {@link #conversionFactor} instance
+     *
+     * @return {@link #conversionFactor} instance as double
+     */
+    public double getConversionFactor() {
+        return conversionFactor;
+    }
+
+    /**
+     * Method to get {@link #phase} instance
+     *
+     * @return {@link #phase} instance as {@link ConversionPhase}
+     */
+    public ConversionPhase getPhase() {
+        return phase;
+    }
+
+    /**
+     * Method to get {@link #checkpoint} instance
+     *
+     * @return {@link #checkpoint} instance as {@link String}
+     */
+    public String getCheckpoint() {
+        return checkpoint;
+    }
+
+    /**
+     * Method to get {@link #convertedRows} instance
+     *
+     * @return {@link #convertedRows} instance as long
+     */
+    public long getConvertedRows() {
+        return convertedRows;
+    }
+
+    /**
+     * Method to get {@link #totalRows} instance
+     *
+     * @return {@link #totalRows} instance as long
+     */
+    public long getTotalRows() {
+        return totalRows;
+    }
+
+    /**
+     * The {@code CurrencyConversionRunId} class is useful to represent the composite identifier of a
+     * {@link CurrencyConversionRun}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     *
+     * @since 1.0.5
+     */
+    @Embeddable
+    public static class CurrencyConversionRunId implements Serializable {
+
+        /**
+         * {@code owner} the identifier of the owner of the revenues converted
+         */
+        @Column(name = OWNER_KEY)
+        private final String owner;
+
+        /**
+         * {@code ratesSnapshot} the fetch timestamp of the exchange rates snapshot used by the run
+         */
+        @Column(name = RATES_SNAPSHOT_KEY)
+        private final long ratesSnapshot;
+
+        /**
+         * Constructor to init the {@link CurrencyConversionRunId} class
+         */
+        @EmptyConstructor
+        public CurrencyConversionRunId() {
+            this(null, 0);
+        }
+
+        /**
+         * Constructor to init the {@link CurrencyConversionRunId} class
+         *
+         * @param owner The identifier of the owner of the revenues converted
+         * @param ratesSnapshot The fetch timestamp of the exchange rates snapshot used by the run
+         */
+        public CurrencyConversionRunId(String owner, long ratesSnapshot) {
+            this.owner = owner;
+            this.ratesSnapshot = ratesSnapshot;
+        }
+
+        /**
+         * Method to get {@link #owner} instance
+         *
+         * @return {@link #owner} instance as {@link String}
+         */
+        public String getOwner() {
+            return owner;
+        }
+
+        /**
+         * Method to get {@link #ratesSnapshot} instance
+         *
+         * @return {@link #ratesSnapshot} instance as long
+         */
+        public long getRatesSnapshot() {
+            return ratesSnapshot;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof CurrencyConversionRunId that))
+                return false;
+            return ratesSnapshot == that.ratesSnapshot && Objects.equals(owner, that.owner);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(owner, ratesSnapshot);
+        }
+
+    }
+
+}
@@ -9,6 +9,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.OWNER_KEY;
 import static com.tecknobit.neutroncore.ContantsKt.*;
 
 /**
@@ -23,11 +24,49 @@ import static com.tecknobit.neutroncore.ContantsKt.*;
         name = GENERAL_REVENUES_KEY,
         uniqueConstraints = @UniqueConstraint(
                 columnNames = REVENUE_TITLE_KEY
-        )
+        ),
+        indexes = {
+                @Index(
+                        name = GeneralRevenue.OWNER_TICKETS_INDEX,
+                        columnList = OWNER_KEY + ", dtype, " + CLOSING_DATE_KEY + ", " + REVENUE_DATE_KEY
+                ),
+                @Index(
+                        name = GeneralRevenue.OWNER_REVENUES_SEEK_INDEX,
+                        columnList = OWNER_KEY + ", dtype, " + REVENUE_DATE_KEY + ", " + IDENTIFIER_KEY
+                ),
+                @Index(
+                        name = GeneralRevenue.PROJECT_TICKETS_SEEK_INDEX,
+                        columnList = PROJECT_REVENUE_KEY + ", " + REVENUE_DATE_KEY + ", " + IDENTIFIER_KEY
+                )
+        }
 )
 @DiscriminatorValue("general")
 public class GeneralRevenue extends Revenue {
 
+    /**
+     * {@code OWNER_TICKETS_INDEX} the name of the index used to seek the tickets of a user by their status and date
+     *
+     * @since 1.0.5
+     */
+    public static final String OWNER_TICKETS_INDEX = "owner_tickets_index";
+
+    /**
+     * {@code OWNER_REVENUES_SEEK_INDEX} the name of the index used by the keyset pagination to seek the general
+     * revenues of a user in the order of the feed, the discriminator is part of the index because the tickets are
+     * stored in the same table
+     *
+     * @since 1.0.5
+     */
+    public static final String OWNER_REVENUES_SEEK_INDEX = "owner_revenues_seek_index";
+
+    /**
+     * {@code PROJECT_TICKETS_SEEK_INDEX} the name of the index used by the keyset pagination to seek the tickets of a
+     * project in the order of the pages
+     *
+     * @since 1.0.5
+     */
+    public static final String PROJECT_TICKETS_SEEK_INDEX = "project_tickets_seek_index";
+
     /**
      * {@code labels} the labels attached to that revenue
      */
@@ -3,6 +3,7 @@ package com.tecknobit.neutron.services.revenues.entities;
 import com.fasterxml.jackson.annotation.JsonGetter;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.tecknobit.apimanager.trading.TradingTools;
 import com.tecknobit.equinoxbackend.annotations.EmptyConstructor;
 import com.tecknobit.neutron.services.users.entity.NeutronUser;
@@ -11,6 +12,8 @@ import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.OWNER_KEY;
 import static com.tecknobit.neutroncore.ContantsKt.*;
 
 /**
@@ -26,6 +29,10 @@ import static com.tecknobit.neutroncore.ContantsKt.*;
         name = PROJECT_REVENUES_KEY,
         uniqueConstraints = @UniqueConstraint(
                 columnNames = REVENUE_TITLE_KEY
+        ),
+        indexes = @Index(
+                name = ProjectRevenue.OWNER_PROJECTS_SEEK_INDEX,
+                columnList = OWNER_KEY + ", " + REVENUE_DATE_KEY + ", " + IDENTIFIER_KEY
         )
 )
 @AttributeOverride(
@@ -38,23 +45,19 @@ import static com.tecknobit.neutroncore.ContantsKt.*;
 public class ProjectRevenue extends Revenue {
 
     /**
-     * {@code initialRevenue} the initial revenue attached to the project
+     * {@code OWNER_PROJECTS_SEEK_INDEX} the name of the index used by the keyset pagination to seek the projects of a
+     * user in the order of the feed
+     *
+     * @since 1.0.5
      */
-    @OneToOne(
-            mappedBy = PROJECT_REVENUE
-    )
-    @JsonIgnoreProperties({
-            PROJECT_REVENUE,
-            "hibernateLazyInitializer",
-            "handler"
-    })
-    private final InitialRevenue initialRevenue;
+    public static final String OWNER_PROJECTS_SEEK_INDEX = "owner_projects_seek_index";
 
     /**
-     * {@code tickets} the ticket attached to the project
+     * {@code tickets} the ticket attached to the project, lazily loaded so the list views of the projects do not
+     * hydrate the tickets rows
      */
     @OneToMany(
-            fetch = FetchType.EAGER,
+            fetch = FetchType.LAZY,
             mappedBy = PROJECT_REVENUE
     )
     @JsonIgnoreProperties({
@@ -65,6 +68,84 @@ public class ProjectRevenue extends Revenue {
     @OrderBy(REVENUE_DATE_KEY + " DESC")
     private final List<TicketRevenue> tickets;
 
+    /**
+     * {@code initialValue} the value of the {@link #initialRevenue} materialized on the project
+     *
+     * @since 1.0.5
+     */
+    @Column(
+            name = INITIAL_REVENUE_VALUE_KEY,
+            columnDefinition = "REAL NOT NULL DEFAULT 0",
+            insertable = false,
+            updatable = false
+    )
+    private final double initialValue;
+
+    /**
+     * {@code initialDate} the date of the {@link #initialRevenue} materialized on the project
+     *
+     * @since 1.0.5
+     */
+    @Column(
+            name = INITIAL_REVENUE_DATE_KEY,
+            columnDefinition = "BIGINT NOT NULL DEFAULT 0",
+            insertable = false,
+            updatable = false
+    )
+    private final long initialDate;
+
+    /**
+     * {@code pendingTicketsValue} the sum of the values of the pending tickets of the project
+     *
+     * @since 1.0.5
+     */
+    @Column(
+            name = PENDING_TICKETS_VALUE_KEY,
+            columnDefinition = "REAL NOT NULL DEFAULT 0",
+            insertable = false,
+            updatable = false
+    )
+    private final double pendingTicketsValue;
+
+    /**
+     * {@code closedTicketsValue} the sum of the values of the closed tickets of the project
+     *
+     * @since 1.0.5
+     */
+    @Column(
+            name = CLOSED_TICKETS_VALUE_KEY,
+            columnDefinition = "REAL NOT NULL DEFAULT 0",
+            insertable = false,
+            updatable = false
+    )
+    private final double closedTicketsValue;
+
+    /**
+     * {@code pendingTicketsCount} the number of the pending tickets of the project
+     *
+     * @since 1.0.5
+     */
+    @Column(
+            name = PENDING_TICKETS_COUNT_KEY,
+            columnDefinition = "INT NOT NULL DEFAULT 0",
+            insertable = false,
+            updatable = false
+    )
+    private final int pendingTicketsCount;
+
+    /**
+     * {@code closedTicketsCount} the number of the closed tickets of the project
+     *
+     * @since 1.0.5
+     */
+    @Column(
+            name = CLOSED_TICKETS_COUNT_KEY,
+            columnDefinition = "INT NOT NULL DEFAULT 0",
+            insertable = false,
+            updatable = false
+    )
+    private final int closedTicketsCount;
+
     /**
      * {@code countInitialRevenue} Internal flag to indicate whether count the {@link #initialRevenue} using the
      * {@link #getValue()} method
@@ -74,6 +155,36 @@ public class ProjectRevenue extends Revenue {
     @Transient
     private boolean countInitialRevenue;
 
+    /**
+     * {@code periodTicketsValue} Internal sum of the values of the tickets which fall in the period requested, when
+     * {@code null} the value of the project is computed from the materialized sums
+     *
+     * @since 1.0.5
+     */
+    @Transient
+    private Double periodTicketsValue;
+
+    /**
+     * {@code loadedTickets} the tickets loaded to be shared with the project, {@code null} when the project has been
+     * loaded as summary for the list views
+     *
+     * @since 1.0.5
+     */
+    @Transient
+    private List<TicketRevenue> loadedTickets;
+
+    /**
+     * {@code initialRevenue} the initial revenue attached to the project, {@code null} when the project has been
+     * loaded as summary for the list views, which use the materialized {@link #initialValue} and {@link #initialDate}
+     */
+    @Transient
+    @JsonIgnoreProperties({
+            PROJECT_REVENUE,
+            "hibernateLazyInitializer",
+            "handler"
+    })
+    private InitialRevenue initialRevenue;
+
     /**
      * Constructor to init the {@link ProjectRevenue} class
      */
@@ -114,6 +225,12 @@ public class ProjectRevenue extends Revenue {
         this.initialRevenue = initialRevenue;
         this.tickets = tickets;
         this.countInitialRevenue = true;
+        initialValue = 0;
+        initialDate = 0;
+        pendingTicketsValue = 0;
+        closedTicketsValue = 0;
+        pendingTicketsCount = 0;
+        closedTicketsCount = 0;
     }
 
     /**
@@ -123,9 +240,11 @@ public class ProjectRevenue extends Revenue {
     public double getValue() {
         double value = 0;
         if(countInitialRevenue)
-            value = initialRevenue.getValue();
-        for (TicketRevenue ticket : tickets)
-            value += ticket.getValue();
+            value = initialValue;
+        if(periodTicketsValue != null)
+            value += periodTicketsValue;
+        else
+            value += pendingTicketsValue + closedTicketsValue;
         return TradingTools.roundValue(value, 2);
     }
 
@@ -135,57 +254,141 @@ public class ProjectRevenue extends Revenue {
      * @return {@link #initialRevenue} instance as {@link InitialRevenue}
      */
     @JsonGetter(INITIAL_REVENUE_KEY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     public InitialRevenue getInitialRevenue() {
         return initialRevenue;
     }
 
     /**
-     * Method to get {@link #tickets} instance 
+     * Method to attach to the project its initial revenue to share with it
+     *
+     * @param initialRevenue The initial revenue of the project
+     *
+     * @since 1.0.5
+     */
+    @JsonIgnore
+    public void attachInitialRevenue(InitialRevenue initialRevenue) {
+        this.initialRevenue = initialRevenue;
+    }
+
+    /**
+     * Method to get {@link #initialValue} instance
+     *
+     * @return {@link #initialValue} instance as double
+     *
+     * @since 1.0.5
+     */
+    @JsonGetter(INITIAL_REVENUE_VALUE_KEY)
+    public double getInitialValue() {
+        return initialValue;
+    }
+
+    /**
+     * Method to get {@link #initialDate} instance
+     *
+     * @return {@link #initialDate} instance as long
+     *
+     * @since 1.0.5
+     */
+    @JsonGetter(INITIAL_REVENUE_DATE_KEY)
+    public long getInitialDate() {
+        return initialDate;
+    }
+
+    /**
+     * Method to get {@link #pendingTicketsValue} instance
+     *
+     * @return {@link #pendingTicketsValue} instance as double
+     *
+     * @since 1.0.5
+     */
+    @JsonGetter(PENDING_TICKETS_VALUE_KEY)
+    public double getPendingTicketsValue() {
+        return pendingTicketsValue;
+    }
+
+    /**
+     * Method to get {@link #closedTicketsValue} instance
+     *
+     * @return {@link #closedTicketsValue} instance as double
+     *
+     * @since 1.0.5
+     */
+    @JsonGetter(CLOSED_TICKETS_VALUE_KEY)
+    public double getClosedTicketsValue() {
+        return closedTicketsValue;
+    }
+
+    /**
+     * Method to get {@link #pendingTicketsCount} instance
+     *
+     * @return {@link #pendingTicketsCount} instance as int
+     *
+     * @since 1.0.5
+     */
+    @JsonGetter(PENDING_TICKETS_COUNT_KEY)
+    public int getPendingTicketsCount() {
+        return pendingTicketsCount;
+    }
+
+    /**
+     * Method to get {@link #closedTicketsCount} instance
+     *
+     * @return {@link #closedTicketsCount} instance as int
+     *
+     * @since 1.0.5
+     */
+    @JsonGetter(CLOSED_TICKETS_COUNT_KEY)
+    public int getClosedTicketsCount() {
+        return closedTicketsCount;
+    }
+
+    /**
+     * Method to get {@link #tickets} instance, the tickets are lazily loaded so the project must be still attached to
+     * its persistence context
      *
      * @return {@link #tickets} instance as {@link List} of {@link TicketRevenue}
      */
+    @JsonIgnore
     public List<TicketRevenue> getTickets() {
         return tickets;
     }
 
     /**
-     * Method to check whether a {@link TicketRevenue} is attached to the current project
+     * Method to get {@link #loadedTickets} instance
+     *
+     * @return {@link #loadedTickets} instance as {@link List} of {@link TicketRevenue}
      *
-     * @param ticketTitle The title of the ticket to check
-     * @return whether the ticket is attached as boolean
+     * @since 1.0.5
      */
-    @JsonIgnore
-    public boolean hasTicket(String ticketTitle) {
-        for (TicketRevenue ticket : tickets)
-            if (ticket.getTitle().equals(ticketTitle))
-                return true;
-        return false;
+    @JsonGetter(TICKETS_KEY)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public List<TicketRevenue> getLoadedTickets() {
+        return loadedTickets;
     }
 
     /**
-     * Method to check whether a {@link TicketRevenue} is attached to the current project
+     * Method to attach to the project the tickets to share with it
+     *
+     * @param tickets The tickets of the project
      *
-     * @param ticketId The identifier of the ticket to check
-     * @return whether the ticket is attached as {@link TicketRevenue}, if not exists null
+     * @since 1.0.5
      */
     @JsonIgnore
-    public TicketRevenue hasTicketById(String ticketId) {
-        for (TicketRevenue ticket : tickets)
-            if (ticket.getId().equals(ticketId))
-                return ticket;
-        return null;
+    public void attachTickets(List<TicketRevenue> tickets) {
+        loadedTickets = tickets;
     }
 
     /**
-     * Method used to remove from the {@link #tickets} list the tickets which have been closed before the specified date
+     * Method used to set the {@link #periodTicketsValue} instance
      *
-     * @param date The specified date used as filter to remove those tickets which have been closed before
+     * @param periodTicketsValue The sum of the values of the tickets which fall in the period requested
      *
-     * @since 1.0.4
+     * @since 1.0.5
      */
     @JsonIgnore
-    public void dropClosedTicketsBeforeDate(long date) {
-        tickets.removeIf(ticketRevenue -> ticketRevenue.isClosed() && ticketRevenue.revenueDate < date);
+    public void setPeriodTicketsValue(double periodTicketsValue) {
+        this.periodTicketsValue = periodTicketsValue;
     }
 
     /**
@@ -197,7 +400,7 @@ public class ProjectRevenue extends Revenue {
      */
     @JsonIgnore
     public void countInitialRevenueIfAfter(long date) {
-        countInitialRevenue = initialRevenue.getRevenueTimestamp() >= date;
+        countInitialRevenue = initialDate >= date;
     }
 
 }
@@ -0,0 +1,268 @@
+package com.tecknobit.neutron.services.revenues.entities;
+
+import com.tecknobit.equinoxbackend.annotations.EmptyConstructor;
+import jakarta.persistence.*;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.OWNER_KEY;
+import static com.tecknobit.neutroncore.ContantsKt.*;
+
+/**
+ * The {@code RevenueRollup} class is useful to represent the pre-aggregated amount earned by a user in a single day,
+ * and the number of revenues which compose it, for a specific kind of revenue and, for the general revenues, for a
+ * specific label. Each row is maintained by the
+ * {@link com.tecknobit.neutron.services.revenues.service.RevenueRollupsService} on every write of the revenues, so the
+ * period queries can read at most a bucket per day instead of scanning the revenues tables
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+@Entity
+@Table(name = REVENUE_ROLLUPS_KEY)
+public class RevenueRollup {
+
+    /**
+     * {@code DAY_MILLIS} the amount of milliseconds in a day used to compute the bucket of a date
+     */
+    public static final long DAY_MILLIS = 86400000L;
+
+    /**
+     * {@code GENERAL_KIND} the kind of the buckets of the {@link GeneralRevenue}
+     */
+    public static final String GENERAL_KIND = "general";
+
+    /**
+     * {@code INITIAL_KIND} the kind of the buckets of the {@link InitialRevenue}
+     */
+    public static final String INITIAL_KIND = "initial";
+
+    /**
+     * {@code CLOSED_TICKET_KIND} the kind of the buckets of the closed {@link TicketRevenue}, bucketed by their revenue
+     * date
+     */
+    public static final String CLOSED_TICKET_KIND = "closed_ticket";
+
+    /**
+     * {@code PENDING_TICKET_KIND} the kind of the buckets of the pending {@link TicketRevenue}, bucketed by the revenue
+     * date of their {@link ProjectRevenue}
+     */
+    public static final String PENDING_TICKET_KIND = "pending_ticket";
+
+    /**
+     * {@code PROJECT_KIND} the kind of the buckets which count the {@link ProjectRevenue}, bucketed by their revenue
+     * date, their value is always zero
+     */
+    public static final String PROJECT_KIND = "project";
+
+    /**
+     * {@code NO_LABEL} the label of the buckets which are not related to a specific label
+     */
+    public static final String NO_LABEL = "";
+
+    /**
+     * {@code id} the composite identifier of the bucket
+     */
+    @EmbeddedId
+    private final RevenueRollupId id;
+
+    /**
+     * {@code value} the amount value summed in the bucket
+     */
+    @Column(name = REVENUE_VALUE_KEY)
+    private final double value;
+
+    /**
+     * {@code count} the number of revenues counted in the bucket
+     */
+    @Column(
+            name = ROLLUP_COUNT_KEY,
+            columnDefinition = "INT NOT NULL DEFAULT 0"
+    )
+    private final int count;
+
+    /**
+     * Constructor to init the {@link RevenueRollup} class
+     */
+    @EmptyConstructor
+    public RevenueRollup() {
+        this(null, 0, 0);
+    }
+
+    /**
+     * Constructor to init the {@link RevenueRollup} class
+     *
+     * @param id The composite identifier of the bucket
+     * @param value The amount value summed in the bucket
+     * @param count The number of revenues counted in the bucket
+     */
+    public RevenueRollup(RevenueRollupId id, double value, int count) {
+        this.id = id;
+        this.value = value;
+        this.count = count;
+    }
+
+    /**
+     * Method to get {@link #id} instance
+     *
+     * @return {@link #id} instance as {@link RevenueRollupId}
+     */
+    public RevenueRollupId getId() {
+        return id;
+    }
+
+    /**
+     * Method to get {@link #value} instance
+     *
+     * @return {@link #value} instance as double
+     */
+    public double getValue() {
+        return value;
+    }
+
+    /**
+     * Method to get {@link #count} instance
+     *
+     * @return {@link #count} instance as int
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Method to get the day bucket of a date
+     *
+     * @param timestamp The date to bucket
+     *
+     * @return the day bucket of the date as long
+     */
+    public static long toDay(long timestamp) {
+        return Math.floorDiv(timestamp, DAY_MILLIS);
+    }
+
+    /**
+     * The {@code RevenueRollupId} class is useful to represent the composite identifier of a {@link RevenueRollup}
+     *
+     * @author N7ghtm4r3 - Tecknobit
+     *
+     * @since 1.0.5
+     */
+    @Embeddable
+    public static class RevenueRollupId implements Serializable {
+
+        /**
+         * {@code owner} the identifier of the owner of the bucket
+         */
+        @Column(name = OWNER_KEY)
+        private final String owner;
+
+        /**
+         * {@code day} the day of the bucket, expressed as days since the epoch
+         */
+        @Column(name = ROLLUP_DAY_KEY)
+        private final long day;
+
+        /**
+         * {@code kind} the kind of the revenues summed in the bucket
+         */
+        @Column(
+                name = ROLLUP_KIND_KEY,
+                columnDefinition = "VARCHAR(20) NOT NULL"
+        )
+        private final String kind;
+
+        /**
+         * {@code label} the text of the label of the revenues summed in the bucket, {@link #NO_LABEL} if the bucket
+         * is not related to a specific label
+         */
+        @Column(
+                name = ROLLUP_LABEL_KEY,
+                columnDefinition = "VARCHAR(255) NOT NULL"
+        )
+        private final String label;
+
+        /**
+         * Constructor to init the {@link RevenueRollupId} class
+         */
+        @EmptyConstructor
+        public RevenueRollupId() {
+            this(null, 0, null, null);
+        }
+
+        /**
+         * Constructor to init the {@link RevenueRollupId} class
+         *
+         * @param owner The identifier of the owner of the bucket
+         * @param day The day of the bucket, expressed as days since the epoch
+         * @param kind The kind of the revenues summed in the bucket
+         * @param label The text of the label of the revenues summed in the bucket
+         */
+        public RevenueRollupId(String owner, long day, String kind, String label) {
+            this.owner = owner;
+            this.day = day;
+            this.kind = kind;
+            this.label = label;
+        }
+
+        /**
+         * Method to get {@link #owner} instance
+         *
+         * @return {@link #owner} instance as {@link String}
+         */
+        public String getOwner() {
+            return owner;
+        }
+
+        /**
+         * Method to get {@link #day} instance
+         *
+         * @return {@link #day} instance as long
+         */
+        public long getDay() {
+            return day;
+        }
+
+        /**
+         * Method to get {@link #kind} instance
+         *
+         * @return {@link #kind} instance as {@link String}
+         */
+        public String getKind() {
+            return kind;
+        }
+
+        /**
+         * Method to get {@link #label} instance
+         *
+         * @return {@link #label} instance as {@link String}
+         */
+        public String getLabel() {
+            return label;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o)
+                return true;
+            if (!(o instanceof RevenueRollupId that))
+                return false;
+            return day == that.day && Objects.equals(owner, that.owner) && Objects.equals(kind, that.kind)
+                    && Objects.equals(label, that.label);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public int hashCode() {
+            return Objects.hash(owner, day, kind, label);
+        }
+
+    }
+
+}
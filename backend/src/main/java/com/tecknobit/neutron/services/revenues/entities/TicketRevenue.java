@@ -49,6 +49,7 @@ public class TicketRevenue extends GeneralRevenue {
      * {@code projectRevenue} the project where the ticket is attached
      */
     @ManyToOne(
+            fetch = FetchType.LAZY,
             cascade = CascadeType.ALL
     )
     @JoinColumn(name = PROJECT_REVENUE_KEY)
@@ -137,4 +138,18 @@ public class TicketRevenue extends GeneralRevenue {
         return projectRevenue;
     }
 
+    /**
+     * Method to get the identifier of the project where the ticket is attached, the project is not loaded to get it
+     *
+     * @return the identifier of the project as {@link String}
+     *
+     * @since 1.0.5
+     */
+    @JsonGetter(PROJECT_REVENUE_KEY)
+    public String getProjectRevenueId() {
+        if(projectRevenue == null)
+            return null;
+        return projectRevenue.getId();
+    }
+
 }
@@ -0,0 +1,172 @@
+package com.tecknobit.neutron.services.revenues.jobs;
+
+import com.tecknobit.neutroncore.dtos.CurrencyConversionStatus;
+import com.tecknobit.neutroncore.enums.ConversionJobState;
+import com.tecknobit.neutroncore.enums.NeutronCurrency;
+
+import static com.tecknobit.neutroncore.enums.ConversionJobState.*;
+
+/**
+ * The {@code CurrencyConversionJob} class is useful to track the conversion of the revenues of a user in a new
+ * currency. While the job is {@link ConversionJobState#QUEUED} its target currency can be changed, so the currency
+ * changes requested in a row are coalesced in a single conversion to the latest currency
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @see com.tecknobit.neutron.services.revenues.service.CurrencyConversionExecutor
+ *
+ * @since 1.0.5
+ */
+public class CurrencyConversionJob {
+
+    /**
+     * {@code userId} the identifier of the user owner of the revenues to convert
+     */
+    private final String userId;
+
+    /**
+     * {@code fromCurrency} the currency from which the revenues are converted
+     */
+    private NeutronCurrency fromCurrency;
+
+    /**
+     * {@code targetCurrency} the currency in which the revenues are converted
+     */
+    private NeutronCurrency targetCurrency;
+
+    /**
+     * {@code state} the current state of the job
+     */
+    private volatile ConversionJobState state;
+
+    /**
+     * {@code progress} the progress of the job, from {@code 0} to {@code 1}
+     */
+    private volatile double progress;
+
+    /**
+     * {@code failures} the number of the failed executions of the job
+     */
+    private int failures;
+
+    /**
+     * Constructor to init the {@link CurrencyConversionJob} class
+     *
+     * @param userId The identifier of the user owner of the revenues to convert
+     * @param fromCurrency The currency from which the revenues are converted
+     * @param targetCurrency The currency in which the revenues are converted
+     */
+    public CurrencyConversionJob(String userId, NeutronCurrency fromCurrency, NeutronCurrency targetCurrency) {
+        this.userId = userId;
+        this.fromCurrency = fromCurrency;
+        this.targetCurrency = targetCurrency;
+        state = QUEUED;
+        progress = 0;
+    }
+
+    /**
+     * Method to get {@link #userId} instance
+     *
+     * @return {@link #userId} instance as {@link String}
+     */
+    public String getUserId() {
+        return userId;
+    }
+
+    /**
+     * Method to get {@link #fromCurrency} instance
+     *
+     * @return {@link #fromCurrency} instance as {@link NeutronCurrency}
+     */
+    public synchronized NeutronCurrency getFromCurrency() {
+        return fromCurrency;
+    }
+
+    /**
+     * Method to get {@link #targetCurrency} instance
+     *
+     * @return {@link #targetCurrency} instance as {@link NeutronCurrency}
+     */
+    public synchronized NeutronCurrency getTargetCurrency() {
+        return targetCurrency;
+    }
+
+    /**
+     * Method to get {@link #state} instance
+     *
+     * @return {@link #state} instance as {@link ConversionJobState}
+     */
+    public ConversionJobState getState() {
+        return state;
+    }
+
+    /**
+     * Method to get whether the job is queued or running
+     *
+     * @return whether the job is queued or running as boolean
+     */
+    public boolean isActive() {
+        return state == QUEUED || state == RUNNING;
+    }
+
+    /**
+     * Method to change the target currency of the job, allowed just while the job is queued
+     *
+     * @param targetCurrency The new currency in which the revenues are converted
+     *
+     * @return whether the target currency has been changed as boolean
+     */
+    public synchronized boolean retarget(NeutronCurrency targetCurrency) {
+        if(state != QUEUED)
+            return false;
+        this.targetCurrency = targetCurrency;
+        return true;
+    }
+
+    /**
+     * Method to mark the job as started, from this moment its currencies cannot change anymore
+     */
+    public synchronized void start() {
+        state = RUNNING;
+    }
+
+    /**
+     * Method to update the progress of the job
+     *
+     * @param completedSteps The number of the steps completed
+     * @param totalSteps The total number of the steps of the job
+     */
+    public void advance(long completedSteps, long totalSteps) {
+        if(totalSteps > 0)
+            progress = Math.min(1, (double) completedSteps / totalSteps);
+    }
+
+    /**
+     * Method to mark the job as completed
+     */
+    public void complete() {
+        progress = 1;
+        state = COMPLETED;
+    }
+
+    /**
+     * Method to queue again the job after a failed execution, its target currency can be changed again until it is
+     * retried and the run persisted by the failed execution is resumed by the retry
+     *
+     * @return the number of the failed executions of the job as int
+     */
+    public synchronized int requeue() {
+        state = QUEUED;
+        return ++failures;
+    }
+
+    /**
+     * Method to get the current status of the job
+     *
+     * @return the status of the job as {@link CurrencyConversionStatus}
+     */
+    public synchronized CurrencyConversionStatus toStatus() {
+        return new CurrencyConversionStatus(state, fromCurrency, targetCurrency, progress);
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.tecknobit.neutron.services.revenues.rates;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code ExchangeRatesCache} class is useful to cache the exchange rates fetched by the {@link ExchangeRatesProvider}.
+ * The rates are served from an immutable {@link ExchangeRatesSnapshot} swapped atomically, so reading them never
+ * blocks on the provider. The snapshot is refreshed ahead of its expiration by a background task and, when a refresh
+ * fails, the last good snapshot keeps being served while the refresh is retried
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+@Service
+public class ExchangeRatesCache {
+
+    /**
+     * {@code REFRESH_AHEAD_RATIO} the fraction of the lifetime of a snapshot after which it is refreshed
+     */
+    private static final double REFRESH_AHEAD_RATIO = 0.8;
+
+    /**
+     * {@code REFRESH_THREAD_NAME} the name of the thread which refreshes the exchange rates
+     */
+    private static final String REFRESH_THREAD_NAME = "exchange-rates-refresh";
+
+    /**
+     * {@code ratesProvider} the provider of the exchange rates
+     */
+    private final ExchangeRatesProvider ratesProvider;
+
+    /**
+     * {@code ttlMillis} how long a snapshot is considered fresh, in milliseconds
+     */
+    private final long ttlMillis;
+
+    /**
+     * {@code retryMillis} how long wait before retrying a failed refresh, in milliseconds
+     */
+    private final long retryMillis;
+
+    /**
+     * {@code clock} the clock used to timestamp the snapshots
+     */
+    private final Clock clock;
+
+    /**
+     * {@code snapshot} the last good snapshot of the exchange rates, {@code null} until the first successful fetch
+     */
+    private final AtomicReference<ExchangeRatesSnapshot> snapshot;
+
+    /**
+     * {@code refreshScheduler} the scheduler of the refreshes of the exchange rates
+     */
+    private final ScheduledExecutorService refreshScheduler;
+
+    /**
+     * Constructor to init the cache
+     *
+     * @param ratesProvider The provider of the exchange rates
+     * @param ttlMinutes How long a snapshot is considered fresh, in minutes
+     * @param retrySeconds How long wait before retrying a failed refresh, in seconds
+     */
+    @Autowired
+    public ExchangeRatesCache(ExchangeRatesProvider ratesProvider,
+                              @Value("${neutron.exchange-rates.ttl-minutes:1440}") long ttlMinutes,
+                              @Value("${neutron.exchange-rates.retry-seconds:60}") long retrySeconds) {
+        this(ratesProvider, ttlMinutes, retrySeconds, Clock.systemUTC());
+    }
+
+    /**
+     * Constructor to init the cache
+     *
+     * @param ratesProvider The provider of the exchange rates
+     * @param ttlMinutes How long a snapshot is considered fresh, in minutes
+     * @param retrySeconds How long wait before retrying a failed refresh, in seconds
+     * @param clock The clock used to timestamp the snapshots
+     */
+    ExchangeRatesCache(ExchangeRatesProvider ratesProvider, long ttlMinutes, long retrySeconds, Clock clock) {
+        this.ratesProvider = ratesProvider;
+        ttlMillis = ttlMinutes * 60 * 1000;
+        retryMillis = retrySeconds * 1000;
+        this.clock = clock;
+        snapshot = new AtomicReference<>();
+        refreshScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, REFRESH_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Method to schedule the first fetch of the exchange rates when the backend is started
+     */
+    @PostConstruct
+    public void startRefresh() {
+        refreshScheduler.execute(this::scheduledRefresh);
+    }
+
+    /**
+     * Method to get the current snapshot of the exchange rates. When no rates have been fetched yet, for example
+     * because the provider was not reachable at startup, a fetch is attempted by the calling thread
+     *
+     * @return the current snapshot as {@link ExchangeRatesSnapshot}
+     *
+     * @throws IllegalStateException when no exchange rates are available
+     */
+    public ExchangeRatesSnapshot getSnapshot() {
+        ExchangeRatesSnapshot currentSnapshot = snapshot.get();
+        if(currentSnapshot != null)
+            return currentSnapshot;
+        try {
+            return refresh();
+        } catch (Exception e) {
+            throw new IllegalStateException("Exchange rates not available", e);
+        }
+    }
+
+    /**
+     * Method to refresh the exchange rates and to schedule the next refresh
+     */
+    private void scheduledRefresh() {
+        long nextRefreshDelay = refreshAndGetNextDelay();
+        if(!refreshScheduler.isShutdown())
+            refreshScheduler.schedule(this::scheduledRefresh, nextRefreshDelay, MILLISECONDS);
+    }
+
+    /**
+     * Method to refresh the exchange rates and to get the delay of the next refresh, ahead of the expiration of the
+     * new snapshot when the refresh succeeds, the retry delay otherwise
+     *
+     * @return the delay of the next refresh, in milliseconds, as long
+     */
+    long refreshAndGetNextDelay() {
+        try {
+            refresh();
+            return (long) (ttlMillis * REFRESH_AHEAD_RATIO);
+        } catch (Exception e) {
+            return retryMillis;
+        }
+    }
+
+    /**
+     * Method to fetch the exchange rates and to publish them as the new snapshot
+     *
+     * @return the new snapshot as {@link ExchangeRatesSnapshot}
+     *
+     * @throws Exception when the exchange rates cannot be fetched, the previous snapshot is kept
+     */
+    private ExchangeRatesSnapshot refresh() throws Exception {
+        ExchangeRatesSnapshot refreshedSnapshot = new ExchangeRatesSnapshot(ratesProvider.fetchRates(),
+                clock.millis());
+        snapshot.set(refreshedSnapshot);
+        return refreshedSnapshot;
+    }
+
+    /**
+     * Method to stop the refreshes when the backend is stopped
+     */
+    @PreDestroy
+    public void shutdown() {
+        refreshScheduler.shutdownNow();
+    }
+
+}
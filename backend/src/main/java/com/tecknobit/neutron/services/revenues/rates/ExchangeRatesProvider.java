@@ -0,0 +1,39 @@
+package com.tecknobit.neutron.services.revenues.rates;
+
+import com.tecknobit.neutroncore.enums.NeutronCurrency;
+
+import java.util.Map;
+
+/**
+ * The {@code ExchangeRatesProvider} interface is useful to fetch the exchange rates of the supported currencies, the
+ * provider used is selected with the {@code neutron.exchange-rates.provider} property
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @see ExchangeRatesCache
+ *
+ * @since 1.0.5
+ */
+public interface ExchangeRatesProvider {
+
+    /**
+     * {@code RATES_KEY} the key of the rates in the payloads of the exchange rates
+     */
+    String RATES_KEY = "rates";
+
+    /**
+     * {@code PROVIDER_PROPERTY} the property used to select the provider of the exchange rates
+     */
+    String PROVIDER_PROPERTY = "neutron.exchange-rates.provider";
+
+    /**
+     * Method to fetch the current exchange rates, each rate is the value of one US dollar in the currency
+     *
+     * @return the exchange rates of all the supported currencies as {@link Map} of {@link NeutronCurrency} and
+     * {@link Double}
+     *
+     * @throws Exception when the exchange rates cannot be fetched or some supported currency is missing
+     */
+    Map<NeutronCurrency, Double> fetchRates() throws Exception;
+
+}
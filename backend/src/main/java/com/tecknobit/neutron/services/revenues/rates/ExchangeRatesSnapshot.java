@@ -0,0 +1,67 @@
+package com.tecknobit.neutron.services.revenues.rates;
+
+import com.tecknobit.neutroncore.enums.NeutronCurrency;
+
+import java.util.Map;
+
+/**
+ * The {@code ExchangeRatesSnapshot} class is useful to represent an immutable set of exchange rates fetched at the
+ * same time, so it can be shared between threads without synchronization. <br>
+ * The rates are unboxed in an array indexed by the {@link NeutronCurrency#ordinal()} of the currencies and each
+ * factor is computed when requested, a conversion run reads it just once when it is started
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @see ExchangeRatesCache
+ *
+ * @since 1.0.5
+ */
+public final class ExchangeRatesSnapshot {
+
+    /**
+     * {@code dollarRates} the value of one US dollar in each currency, indexed by the ordinal of the currency
+     */
+    private final double[] dollarRates;
+
+    /**
+     * {@code fetchTimestamp} when the exchange rates have been fetched
+     */
+    private final long fetchTimestamp;
+
+    /**
+     * Constructor to init the {@link ExchangeRatesSnapshot} class
+     *
+     * @param rates The value of one US dollar in each currency
+     * @param fetchTimestamp When the exchange rates have been fetched
+     */
+    public ExchangeRatesSnapshot(Map<NeutronCurrency, Double> rates, long fetchTimestamp) {
+        dollarRates = new double[NeutronCurrency.getEntries().size()];
+        for (NeutronCurrency currency : NeutronCurrency.getEntries())
+            dollarRates[currency.ordinal()] = rates.get(currency);
+        this.fetchTimestamp = fetchTimestamp;
+    }
+
+    /**
+     * Method to get {@link #fetchTimestamp} instance
+     *
+     * @return {@link #fetchTimestamp} instance as long
+     */
+    public long getFetchTimestamp() {
+        return fetchTimestamp;
+    }
+
+    /**
+     * Method to get the factor to apply to a value to convert it from a currency to another one
+     *
+     * @param fromCurrency The currency of the value
+     * @param targetCurrency The currency in which convert the value
+     *
+     * @return the factor of the conversion as double
+     */
+    public double getConversionFactor(NeutronCurrency fromCurrency, NeutronCurrency targetCurrency) {
+        if(fromCurrency == targetCurrency)
+            return 1;
+        return dollarRates[targetCurrency.ordinal()] / dollarRates[fromCurrency.ordinal()];
+    }
+
+}
@@ -0,0 +1,71 @@
+package com.tecknobit.neutron.services.revenues.rates;
+
+import com.tecknobit.neutroncore.enums.NeutronCurrency;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * The {@code FileExchangeRatesProvider} class is useful to read the exchange rates from a local file, so the service
+ * can run offline. The file has the same scheme of the payload of the remote service:
+ * <pre>
+ *      {@code
+ *              {
+ *                  "rates": {
+ *                      "USD": 1, -> [double]
+ *                      "EUR": "the value of one US dollar in euro", -> [double]
+ *                      ...
+ *                  }
+ *              }
+ *      }
+ * </pre>
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @see ExchangeRatesProvider
+ *
+ * @since 1.0.5
+ */
+@Component
+@ConditionalOnProperty(name = ExchangeRatesProvider.PROVIDER_PROPERTY, havingValue = "file")
+public class FileExchangeRatesProvider implements ExchangeRatesProvider {
+
+    /**
+     * {@code ratesFile} the file from where read the exchange rates
+     */
+    private final Resource ratesFile;
+
+    /**
+     * Constructor to init the provider
+     *
+     * @param ratesFile The file from where read the exchange rates
+     */
+    public FileExchangeRatesProvider(@Value("${neutron.exchange-rates.file:classpath:exchange_rates.json}")
+                                     Resource ratesFile) {
+        this.ratesFile = ratesFile;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<NeutronCurrency, Double> fetchRates() throws Exception {
+        JSONObject rates;
+        try (InputStream ratesStream = ratesFile.getInputStream()) {
+            rates = new JSONObject(new String(ratesStream.readAllBytes(), StandardCharsets.UTF_8))
+                    .getJSONObject(RATES_KEY);
+        }
+        Map<NeutronCurrency, Double> currencyRates = new EnumMap<>(NeutronCurrency.class);
+        for (NeutronCurrency currency : NeutronCurrency.getEntries())
+            currencyRates.put(currency, rates.getDouble(currency.getIsoCode()));
+        return currencyRates;
+    }
+
+}
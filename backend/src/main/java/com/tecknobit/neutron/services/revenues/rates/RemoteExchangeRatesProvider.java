@@ -0,0 +1,64 @@
+package com.tecknobit.neutron.services.revenues.rates;
+
+import com.tecknobit.apimanager.apis.APIRequest;
+import com.tecknobit.apimanager.formatters.JsonHelper;
+import com.tecknobit.neutroncore.enums.NeutronCurrency;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
+
+/**
+ * The {@code RemoteExchangeRatesProvider} class is useful to fetch the exchange rates from the remote service, it is
+ * the default provider
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @see ExchangeRatesProvider
+ *
+ * @since 1.0.5
+ */
+@Component
+@ConditionalOnProperty(name = ExchangeRatesProvider.PROVIDER_PROPERTY, havingValue = "remote", matchIfMissing = true)
+public class RemoteExchangeRatesProvider implements ExchangeRatesProvider {
+
+    /**
+     * {@code ratesEndpoint} the endpoint to get the exchange rates
+     */
+    private final String ratesEndpoint;
+
+    /**
+     * Constructor to init the provider
+     *
+     * @param ratesEndpoint The endpoint to get the exchange rates
+     */
+    public RemoteExchangeRatesProvider(@Value("${neutron.exchange-rates.endpoint:https://open.er-api.com/v6/latest/USD}")
+                                       String ratesEndpoint) {
+        this.ratesEndpoint = ratesEndpoint;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @apiNote this is an api request made to the <a href="https://www.exchangerate-api.com">Rates By Exchange Rate API service</a>
+     */
+    @Override
+    public Map<NeutronCurrency, Double> fetchRates() throws Exception {
+        APIRequest apiRequest = new APIRequest();
+        apiRequest.sendAPIRequest(ratesEndpoint, GET);
+        JsonHelper helper = new JsonHelper(apiRequest.getJSONResponse().toString());
+        JSONObject rates = helper.getJSONObject(RATES_KEY);
+        if(rates == null)
+            throw new IllegalStateException("Exchange rates not available");
+        Map<NeutronCurrency, Double> currencyRates = new EnumMap<>(NeutronCurrency.class);
+        for (NeutronCurrency currency : NeutronCurrency.getEntries())
+            currencyRates.put(currency, rates.getDouble(currency.getIsoCode()));
+        return currencyRates;
+    }
+
+}
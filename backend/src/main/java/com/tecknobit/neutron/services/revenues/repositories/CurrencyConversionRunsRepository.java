@@ -0,0 +1,147 @@
+package com.tecknobit.neutron.services.revenues.repositories;
+
+import com.tecknobit.neutron.services.revenues.entities.CurrencyConversionRun;
+import com.tecknobit.neutron.services.revenues.entities.CurrencyConversionRun.CurrencyConversionRunId;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.tecknobit.equinoxbackend.apis.database.SQLConstants._WHERE_;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.OWNER_KEY;
+import static com.tecknobit.neutroncore.ContantsKt.*;
+
+/**
+ * The {@code CurrencyConversionRunsRepository} interface is useful to manage the queries for the persisted currency
+ * conversion runs
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see JpaRepository
+ * @see CurrencyConversionRun
+ *
+ * @since 1.0.5
+ */
+@Repository
+public interface CurrencyConversionRunsRepository extends JpaRepository<CurrencyConversionRun, CurrencyConversionRunId> {
+
+    /**
+     * {@code RUN_FILTER} the filter applied to select a specific run
+     */
+    String RUN_FILTER = _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY +
+            " AND " + RATES_SNAPSHOT_KEY + "=:" + RATES_SNAPSHOT_KEY;
+
+    /**
+     * Method to get the pending run of a user, the oldest one when more runs are available
+     *
+     * @param owner The identifier of the owner of the revenues converted
+     *
+     * @return the pending run as {@link CurrencyConversionRun}, {@code null} if the user has no pending runs
+     */
+    @Query(
+            value = "SELECT * FROM " + CURRENCY_CONVERSION_RUNS_KEY +
+                    _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY +
+                    " ORDER BY " + RATES_SNAPSHOT_KEY + " LIMIT 1",
+            nativeQuery = true
+    )
+    CurrencyConversionRun getUserRun(
+            @Param(OWNER_KEY) String owner
+    );
+
+    /**
+     * Method to get all the pending runs
+     *
+     * @return the pending runs as {@link List} of {@link CurrencyConversionRun}
+     */
+    @Query(
+            value = "SELECT * FROM " + CURRENCY_CONVERSION_RUNS_KEY +
+                    " ORDER BY " + RATES_SNAPSHOT_KEY,
+            nativeQuery = true
+    )
+    List<CurrencyConversionRun> getPendingRuns();
+
+    /**
+     * Method to get a run locking it until the end of the current transaction, so the chunks of the same run are never
+     * converted concurrently, also by different instances of the backend
+     *
+     * @param owner The identifier of the owner of the revenues converted
+     * @param ratesSnapshot The fetch timestamp of the exchange rates snapshot used by the run
+     *
+     * @return the run as {@link CurrencyConversionRun}, {@code null} if the run has been already completed
+     */
+    @Query(
+            value = "SELECT * FROM " + CURRENCY_CONVERSION_RUNS_KEY + RUN_FILTER + " FOR UPDATE",
+            nativeQuery = true
+    )
+    CurrencyConversionRun lockRun(
+            @Param(OWNER_KEY) String owner,
+            @Param(RATES_SNAPSHOT_KEY) long ratesSnapshot
+    );
+
+    /**
+     * Method to advance the checkpoint of a run after a chunk has been converted
+     *
+     * @param owner The identifier of the owner of the revenues converted
+     * @param ratesSnapshot The fetch timestamp of the exchange rates snapshot used by the run
+     * @param checkpoint The identifier of the last row converted
+     * @param convertedRows The number of the rows converted so far
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + CURRENCY_CONVERSION_RUNS_KEY + " SET " +
+                    CONVERSION_CHECKPOINT_KEY + "=:" + CONVERSION_CHECKPOINT_KEY + "," +
+                    CONVERTED_ROWS_KEY + "=:" + CONVERTED_ROWS_KEY +
+                    RUN_FILTER,
+            nativeQuery = true
+    )
+    void advanceRun(
+            @Param(OWNER_KEY) String owner,
+            @Param(RATES_SNAPSHOT_KEY) long ratesSnapshot,
+            @Param(CONVERSION_CHECKPOINT_KEY) String checkpoint,
+            @Param(CONVERTED_ROWS_KEY) long convertedRows
+    );
+
+    /**
+     * Method to move a run to its next phase, the checkpoint is reset
+     *
+     * @param owner The identifier of the owner of the revenues converted
+     * @param ratesSnapshot The fetch timestamp of the exchange rates snapshot used by the run
+     * @param phase The phase to execute
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + CURRENCY_CONVERSION_RUNS_KEY + " SET " +
+                    CONVERSION_PHASE_KEY + "=:" + CONVERSION_PHASE_KEY + "," +
+                    CONVERSION_CHECKPOINT_KEY + "=''" +
+                    RUN_FILTER,
+            nativeQuery = true
+    )
+    void moveRunToPhase(
+            @Param(OWNER_KEY) String owner,
+            @Param(RATES_SNAPSHOT_KEY) long ratesSnapshot,
+            @Param(CONVERSION_PHASE_KEY) String phase
+    );
+
+    /**
+     * Method to delete a completed run
+     *
+     * @param owner The identifier of the owner of the revenues converted
+     * @param ratesSnapshot The fetch timestamp of the exchange rates snapshot used by the run
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "DELETE FROM " + CURRENCY_CONVERSION_RUNS_KEY + RUN_FILTER,
+            nativeQuery = true
+    )
+    void deleteRun(
+            @Param(OWNER_KEY) String owner,
+            @Param(RATES_SNAPSHOT_KEY) long ratesSnapshot
+    );
+
+}
@@ -0,0 +1,245 @@
+package com.tecknobit.neutron.services.revenues.repositories;
+
+import com.tecknobit.neutron.services.revenues.entities.RevenueRollup;
+import com.tecknobit.neutron.services.revenues.entities.RevenueRollup.RevenueRollupId;
+import jakarta.transaction.Transactional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static com.tecknobit.equinoxbackend.apis.database.SQLConstants._WHERE_;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
+import static com.tecknobit.neutron.services.revenues.repositories.RevenuesRepository.PROJECT_COUNTERS_ASSIGNMENT;
+import static com.tecknobit.neutroncore.ContantsKt.*;
+
+/**
+ * The {@code RevenueRollupsRepository} interface is useful to manage the queries for the revenue rollups operations
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see JpaRepository
+ * @see RevenueRollup
+ *
+ * @since 1.0.5
+ */
+@Repository
+public interface RevenueRollupsRepository extends JpaRepository<RevenueRollup, RevenueRollupId> {
+
+    /**
+     * {@code ROLLUP_DAYS_KEY} the key for the {@code days} parameter
+     */
+    String ROLLUP_DAYS_KEY = "days";
+
+    /**
+     * {@code FROM_DATE_KEY} the key for the {@code from_date} parameter
+     */
+    String FROM_DATE_KEY = "from_date";
+
+    /**
+     * {@code TO_DATE_KEY} the key for the {@code to_date} parameter
+     */
+    String TO_DATE_KEY = "to_date";
+
+    /**
+     * Method to delete the buckets of a user in the specified days
+     *
+     * @param owner The identifier of the owner of the buckets
+     * @param days The days of the buckets to delete
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "DELETE FROM " + REVENUE_ROLLUPS_KEY +
+                    _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY +
+                    " AND " + ROLLUP_DAY_KEY + " IN (:" + ROLLUP_DAYS_KEY + ")",
+            nativeQuery = true
+    )
+    void deleteRollups(
+            @Param(OWNER_KEY) String owner,
+            @Param(ROLLUP_DAYS_KEY) Collection<Long> days
+    );
+
+    /**
+     * Method to delete all the buckets of a user
+     *
+     * @param owner The identifier of the owner of the buckets
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "DELETE FROM " + REVENUE_ROLLUPS_KEY + _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY,
+            nativeQuery = true
+    )
+    void deleteAllRollups(
+            @Param(OWNER_KEY) String owner
+    );
+
+    /**
+     * Method to regenerate from the revenues tables the materialized balance and tickets counters of all the projects
+     * of a user
+     *
+     * @param owner The identifier of the owner of the projects
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + PROJECT_REVENUES_KEY + " AS p" + PROJECT_COUNTERS_ASSIGNMENT +
+                    _WHERE_ + "p." + OWNER_KEY + "=:" + OWNER_KEY,
+            nativeQuery = true
+    )
+    void refreshProjectsCounters(
+            @Param(OWNER_KEY) String owner
+    );
+
+    /**
+     * Method to regenerate from the revenues tables the buckets of a user in the specified days
+     *
+     * @param owner The identifier of the owner of the buckets
+     * @param days The days of the buckets to regenerate
+     * @param fromDate The start date, inclusive, of the first day to regenerate
+     * @param toDate The end date, exclusive, of the last day to regenerate
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "INSERT INTO " + REVENUE_ROLLUPS_KEY + " (" +
+                        OWNER_KEY + "," +
+                        ROLLUP_DAY_KEY + "," +
+                        ROLLUP_KIND_KEY + "," +
+                        ROLLUP_LABEL_KEY + "," +
+                        REVENUE_VALUE_KEY + "," +
+                        ROLLUP_COUNT_KEY +
+                    ") " +
+                    "SELECT :" + OWNER_KEY + ", r." + REVENUE_DATE_KEY + " DIV 86400000 AS d, 'general', '', " +
+                    "SUM(r." + REVENUE_VALUE_KEY + "), COUNT(*) FROM " + GENERAL_REVENUES_KEY + " AS r" +
+                    _WHERE_ + "r." + OWNER_KEY + "=:" + OWNER_KEY + " AND r.dtype = 'general'" +
+                    " AND r." + REVENUE_DATE_KEY + " >= :" + FROM_DATE_KEY +
+                    " AND r." + REVENUE_DATE_KEY + " < :" + TO_DATE_KEY +
+                    " AND r." + REVENUE_DATE_KEY + " DIV 86400000 IN (:" + ROLLUP_DAYS_KEY + ")" +
+                    " GROUP BY d" +
+                    " UNION ALL " +
+                    "SELECT :" + OWNER_KEY + ", d, 'general', lt, SUM(v), COUNT(*) FROM (" +
+                        "SELECT DISTINCT r." + IDENTIFIER_KEY + ", r." + REVENUE_DATE_KEY + " DIV 86400000 AS d, " +
+                        "l." + REVENUE_LABEL_TEXT_KEY + " AS lt, r." + REVENUE_VALUE_KEY + " AS v" +
+                        " FROM " + GENERAL_REVENUES_KEY + " AS r INNER JOIN " + REVENUE_LABELS_KEY + " AS rv" +
+                        " ON rv." + REVENUE_IDENTIFIER_KEY + " = r." + IDENTIFIER_KEY +
+                        " INNER JOIN " + LABELS_KEY + " AS l ON l." + IDENTIFIER_KEY + " = rv." + IDENTIFIER_KEY +
+                        _WHERE_ + "r." + OWNER_KEY + "=:" + OWNER_KEY + " AND r.dtype = 'general'" +
+                        " AND r." + REVENUE_DATE_KEY + " >= :" + FROM_DATE_KEY +
+                        " AND r." + REVENUE_DATE_KEY + " < :" + TO_DATE_KEY +
+                        " AND r." + REVENUE_DATE_KEY + " DIV 86400000 IN (:" + ROLLUP_DAYS_KEY + ")" +
+                    ") AS labelled_revenues GROUP BY d, lt" +
+                    " UNION ALL " +
+                    "SELECT :" + OWNER_KEY + ", i." + REVENUE_DATE_KEY + " DIV 86400000 AS d, 'initial', '', " +
+                    "SUM(i." + REVENUE_VALUE_KEY + "), COUNT(*) FROM " + INITIAL_REVENUES_KEY + " AS i" +
+                    _WHERE_ + "i." + OWNER_KEY + "=:" + OWNER_KEY +
+                    " AND i." + REVENUE_DATE_KEY + " >= :" + FROM_DATE_KEY +
+                    " AND i." + REVENUE_DATE_KEY + " < :" + TO_DATE_KEY +
+                    " AND i." + REVENUE_DATE_KEY + " DIV 86400000 IN (:" + ROLLUP_DAYS_KEY + ")" +
+                    " GROUP BY d" +
+                    " UNION ALL " +
+                    "SELECT :" + OWNER_KEY + ", t." + REVENUE_DATE_KEY + " DIV 86400000 AS d, 'closed_ticket', '', " +
+                    "SUM(t." + REVENUE_VALUE_KEY + "), COUNT(*) FROM " + GENERAL_REVENUES_KEY + " AS t" +
+                    _WHERE_ + "t." + OWNER_KEY + "=:" + OWNER_KEY + " AND t.dtype = 'ticket'" +
+                    " AND t." + CLOSING_DATE_KEY + " != -1" +
+                    " AND t." + REVENUE_DATE_KEY + " >= :" + FROM_DATE_KEY +
+                    " AND t." + REVENUE_DATE_KEY + " < :" + TO_DATE_KEY +
+                    " AND t." + REVENUE_DATE_KEY + " DIV 86400000 IN (:" + ROLLUP_DAYS_KEY + ")" +
+                    " GROUP BY d" +
+                    " UNION ALL " +
+                    "SELECT :" + OWNER_KEY + ", p." + REVENUE_DATE_KEY + " DIV 86400000 AS d, 'pending_ticket', '', " +
+                    "SUM(t." + REVENUE_VALUE_KEY + "), COUNT(*) FROM " + PROJECT_REVENUES_KEY + " AS p" +
+                    " INNER JOIN " + GENERAL_REVENUES_KEY + " AS t ON t." + PROJECT_REVENUE_KEY + " = p." + IDENTIFIER_KEY +
+                    " AND t.dtype = 'ticket' AND t." + CLOSING_DATE_KEY + " = -1" +
+                    _WHERE_ + "p." + OWNER_KEY + "=:" + OWNER_KEY +
+                    " AND p." + REVENUE_DATE_KEY + " >= :" + FROM_DATE_KEY +
+                    " AND p." + REVENUE_DATE_KEY + " < :" + TO_DATE_KEY +
+                    " AND p." + REVENUE_DATE_KEY + " DIV 86400000 IN (:" + ROLLUP_DAYS_KEY + ")" +
+                    " GROUP BY d" +
+                    " UNION ALL " +
+                    "SELECT :" + OWNER_KEY + ", p." + REVENUE_DATE_KEY + " DIV 86400000 AS d, 'project', '', 0, " +
+                    "COUNT(*) FROM " + PROJECT_REVENUES_KEY + " AS p" +
+                    _WHERE_ + "p." + OWNER_KEY + "=:" + OWNER_KEY +
+                    " AND p." + REVENUE_DATE_KEY + " >= :" + FROM_DATE_KEY +
+                    " AND p." + REVENUE_DATE_KEY + " < :" + TO_DATE_KEY +
+                    " AND p." + REVENUE_DATE_KEY + " DIV 86400000 IN (:" + ROLLUP_DAYS_KEY + ")" +
+                    " GROUP BY d",
+            nativeQuery = true
+    )
+    void insertRollups(
+            @Param(OWNER_KEY) String owner,
+            @Param(ROLLUP_DAYS_KEY) Collection<Long> days,
+            @Param(FROM_DATE_KEY) long fromDate,
+            @Param(TO_DATE_KEY) long toDate
+    );
+
+    /**
+     * Method to count the general revenues and the projects of a user summing the counters of the buckets, the
+     * revenues are counted with a daily granularity
+     *
+     * @param owner The identifier of the owner of the buckets
+     * @param fromDay The day from which count the revenues
+     * @param retrieveGeneralRevenues Whether count the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
+     * @param retrieveProjectRevenues Whether count the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
+     * @param label The text of the label used to filter the general revenues, empty to not filter them
+     *
+     * @return the count of the revenues as long
+     */
+    @Query(
+            value = "SELECT COALESCE(SUM(" + ROLLUP_COUNT_KEY + "), 0) FROM " + REVENUE_ROLLUPS_KEY +
+                    _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY +
+                    " AND " + ROLLUP_DAY_KEY + " >= :" + ROLLUP_DAY_KEY +
+                    " AND (" +
+                        "(:" + GENERAL_REVENUES_KEY + " AND " + ROLLUP_KIND_KEY + " = 'general' AND " +
+                        ROLLUP_LABEL_KEY + " = :" + ROLLUP_LABEL_KEY + ")" +
+                        " OR (:" + PROJECT_REVENUES_KEY + " AND " + ROLLUP_KIND_KEY + " = 'project')" +
+                    ")",
+            nativeQuery = true
+    )
+    long countRevenues(
+            @Param(OWNER_KEY) String owner,
+            @Param(ROLLUP_DAY_KEY) long fromDay,
+            @Param(GENERAL_REVENUES_KEY) boolean retrieveGeneralRevenues,
+            @Param(PROJECT_REVENUES_KEY) boolean retrieveProjectRevenues,
+            @Param(ROLLUP_LABEL_KEY) String label
+    );
+
+    /**
+     * Method to retrieve all the days where a user has at least a revenue to bucket
+     *
+     * @param owner The identifier of the owner of the revenues
+     *
+     * @return the days where the user has at least a revenue as {@link List} of {@link Long}
+     */
+    @Query(
+            value = "SELECT " + REVENUE_DATE_KEY + " DIV 86400000 AS d FROM " + GENERAL_REVENUES_KEY +
+                    _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY +
+                    " UNION " +
+                    "SELECT " + REVENUE_DATE_KEY + " DIV 86400000 AS d FROM " + INITIAL_REVENUES_KEY +
+                    _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY +
+                    " UNION " +
+                    "SELECT " + REVENUE_DATE_KEY + " DIV 86400000 AS d FROM " + PROJECT_REVENUES_KEY +
+                    _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY +
+                    " ORDER BY d",
+            nativeQuery = true
+    )
+    List<Long> getRevenueDays(
+            @Param(OWNER_KEY) String owner
+    );
+
+    /**
+     * Method to retrieve the identifiers of all the users
+     *
+     * @return the identifiers of all the users as {@link List} of {@link String}
+     */
+    @Query(
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + USERS_KEY,
+            nativeQuery = true
+    )
+    List<String> getOwners();
+
+}
@@ -1,12 +1,15 @@
 package com.tecknobit.neutron.services.revenues.repositories;
 
 
+import com.tecknobit.neutron.services.revenues.dtos.ProjectTicketsStats;
+import com.tecknobit.neutron.services.revenues.dtos.ProjectTicketsValue;
+import com.tecknobit.neutron.services.revenues.dtos.RevenueFeedItem;
 import com.tecknobit.neutron.services.revenues.entities.GeneralRevenue;
+import com.tecknobit.neutron.services.revenues.entities.InitialRevenue;
 import com.tecknobit.neutron.services.revenues.entities.ProjectRevenue;
 import com.tecknobit.neutron.services.revenues.entities.Revenue;
 import com.tecknobit.neutron.services.revenues.entities.TicketRevenue;
 import jakarta.transaction.Transactional;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,11 +17,13 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
 
 import static com.tecknobit.equinoxbackend.apis.database.SQLConstants._WHERE_;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.OWNER_KEY;
+import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.PAGE_SIZE_KEY;
 import static com.tecknobit.neutroncore.ContantsKt.*;
 
 /**
@@ -33,65 +38,193 @@ import static com.tecknobit.neutroncore.ContantsKt.*;
 public interface RevenuesRepository extends JpaRepository<Revenue, String> {
 
     /**
-     * Method to count the general revenues of a user
+     * {@code CURSOR_DATE_KEY} the key for the {@code cursor_date} parameter
+     */
+    String CURSOR_DATE_KEY = "cursor_date";
+
+    /**
+     * {@code CURSOR_ID_KEY} the key for the {@code cursor_id} parameter
+     */
+    String CURSOR_ID_KEY = "cursor_id";
+
+    /**
+     * {@code SEEK_CONDITION} the condition used by the keyset pagination to select the rows which follow the cursor
+     */
+    String SEEK_CONDITION = " AND (" + REVENUE_DATE_KEY + " < :" + CURSOR_DATE_KEY + " OR (" + REVENUE_DATE_KEY +
+            " = :" + CURSOR_DATE_KEY + " AND " + IDENTIFIER_KEY + " < :" + CURSOR_ID_KEY + "))";
+
+    /**
+     * {@code SEEK_ORDER} the order and the limit used by the keyset pagination, the order is backed by the
+     * {@link GeneralRevenue#OWNER_REVENUES_SEEK_INDEX}, {@link GeneralRevenue#PROJECT_TICKETS_SEEK_INDEX} and
+     * {@link ProjectRevenue#OWNER_PROJECTS_SEEK_INDEX} indexes so each page reads just the rows it returns
+     */
+    String SEEK_ORDER = " ORDER BY " + REVENUE_DATE_KEY + " DESC, " + IDENTIFIER_KEY + " DESC LIMIT :" +
+            PAGE_SIZE_KEY;
+
+    /**
+     * {@code FEED_OFFSET_KEY} the key for the {@code feed_offset} parameter
+     */
+    String FEED_OFFSET_KEY = "feed_offset";
+
+    /**
+     * {@code FEED_LIMIT_KEY} the key for the {@code feed_limit} parameter
+     */
+    String FEED_LIMIT_KEY = "feed_limit";
+
+    /**
+     * {@code FEED_BRANCH_ORDER} the order and the limit applied to each branch of the merged feed, so each branch
+     * seeks on its own index at most the rows needed to fill the page after the offset
+     */
+    String FEED_BRANCH_ORDER = " ORDER BY " + REVENUE_DATE_KEY + " DESC, " + IDENTIFIER_KEY + " DESC LIMIT :" +
+            FEED_LIMIT_KEY;
+
+    /**
+     * {@code REVENUES_IDS_KEY} the key for the {@code revenues_ids} parameter
+     */
+    String REVENUES_IDS_KEY = "revenues_ids";
+
+    /**
+     * {@code CHUNK_SIZE_KEY} the key for the {@code chunk_size} parameter
+     */
+    String CHUNK_SIZE_KEY = "chunk_size";
+
+    /**
+     * {@code CHUNK_END_KEY} the key for the {@code chunk_end} parameter
+     */
+    String CHUNK_END_KEY = "chunk_end";
+
+    /**
+     * {@code CHUNK_FILTER} the filter applied to select the rows of a conversion chunk, which follow the checkpoint
+     * up to the last row of the chunk
+     */
+    String CHUNK_FILTER = " AND " + IDENTIFIER_KEY + ">:" + CONVERSION_CHECKPOINT_KEY +
+            " AND " + IDENTIFIER_KEY + "<=:" + CHUNK_END_KEY;
+
+    /**
+     * {@code GENERAL_REVENUES_FILTER} the filter applied to select the general revenues of a user
+     */
+    String GENERAL_REVENUES_FILTER = _WHERE_ + ":" + GENERAL_REVENUES_KEY +
+            " AND r." + OWNER_KEY + " = :" + IDENTIFIER_KEY +
+            " AND r." + REVENUE_DATE_KEY + " >= :" + REVENUE_PERIOD_KEY +
+            " AND r.dtype = 'general'" +
+            " AND (" +
+                "COALESCE(:" + REVENUE_LABELS_KEY + ") IS NULL OR EXISTS (" +
+                    "SELECT 1 FROM " + REVENUE_LABELS_KEY + " AS rv INNER JOIN " + LABELS_KEY +
+                    " AS l ON l." + IDENTIFIER_KEY + " = rv." + IDENTIFIER_KEY +
+                    _WHERE_ + "rv." + REVENUE_IDENTIFIER_KEY + " = r." + IDENTIFIER_KEY +
+                    " AND l." + REVENUE_LABEL_TEXT_KEY + " IN (:" + REVENUE_LABELS_KEY + ")" +
+                ")" +
+            ")";
+
+    /**
+     * {@code PROJECT_REVENUES_FILTER} the filter applied to select the projects of a user
+     */
+    String PROJECT_REVENUES_FILTER = _WHERE_ + ":" + PROJECT_REVENUES_KEY +
+            " AND p." + OWNER_KEY + " = :" + IDENTIFIER_KEY +
+            " AND p." + REVENUE_DATE_KEY + " >= :" + REVENUE_PERIOD_KEY;
+
+    /**
+     * Method to count the general revenues and the projects of a user with a single query
      *
      * @param userId The user identifier
      * @param fromDate The date from fetch the revenues
+     * @param retrieveGeneralRevenues Whether count the {@link GeneralRevenue}
+     * @param retrieveProjectRevenues Whether count the {@link ProjectRevenue}
      * @param labels The labels used to filter the data
      *
-     * @return the count of the revenues long
+     * @return the count of the revenues as long
      */
     @Query(
-            value = "SELECT DISTINCT COUNT(*) FROM " + GENERAL_REVENUES_KEY +
-                    " AS " + REVENUES_KEY + " LEFT JOIN " + REVENUE_LABELS_KEY + " AS rv " +
-                    " ON " + REVENUES_KEY + "." + IDENTIFIER_KEY + " = rv." + REVENUE_IDENTIFIER_KEY +
-                    " LEFT JOIN " + LABELS_KEY + " AS l ON l." + IDENTIFIER_KEY + "=" + "rv." + IDENTIFIER_KEY +
-                    _WHERE_ + REVENUES_KEY + "." + OWNER_KEY + " = :" + IDENTIFIER_KEY +
-                    " AND " + REVENUES_KEY + "." + REVENUE_DATE_KEY + " >= :" + REVENUE_PERIOD_KEY +
-                    " AND (" +
-                        "COALESCE(:" + REVENUE_LABELS_KEY + ") IS NULL OR " +
-                        "l." + REVENUE_LABEL_TEXT_KEY + " IN (:" + REVENUE_LABELS_KEY + ")" +
-                    " )" +
-                    " AND dtype = 'general'",
+            value = "SELECT (SELECT COUNT(*) FROM " + GENERAL_REVENUES_KEY + " AS r" + GENERAL_REVENUES_FILTER + ")" +
+                    " + (SELECT COUNT(*) FROM " + PROJECT_REVENUES_KEY + " AS p" + PROJECT_REVENUES_FILTER + ")",
             nativeQuery = true
     )
-    long countGeneralRevenues(
+    long countRevenues(
             @Param(IDENTIFIER_KEY) String userId,
             @Param(REVENUE_PERIOD_KEY) long fromDate,
+            @Param(GENERAL_REVENUES_KEY) boolean retrieveGeneralRevenues,
+            @Param(PROJECT_REVENUES_KEY) boolean retrieveProjectRevenues,
             @Param(REVENUE_LABELS_KEY) List<String> labels
     );
-    
+
     /**
-     * Method to get the general revenues of a user
+     * Method to get a page of the merged feed of the general revenues and of the projects of a user. Each table is
+     * seeked after the cursor and limited to the rows needed to fill the page after the offset, then the two branches
+     * are merged with a single {@code UNION ALL} ordered by date and identifier and limited once, so just the
+     * identifiers of the revenues of the page are fetched
      *
      * @param userId The user identifier
      * @param fromDate The date from fetch the revenues
-     * @param pageable  The parameters to paginate the query
+     * @param retrieveGeneralRevenues Whether include the {@link GeneralRevenue}
+     * @param retrieveProjectRevenues Whether include the {@link ProjectRevenue}
      * @param labels The labels used to filter the data
+     * @param cursorDate The date of the cursor of the keyset pagination
+     * @param cursorId The identifier of the cursor of the keyset pagination
+     * @param pageSize The max number of revenues to fetch
+     * @param offset The number of revenues to skip after the cursor
+     * @param feedLimit The max number of revenues read by each branch, the sum of the page size and of the offset
      *
-     * @return the revenues as {@link List} of {@link GeneralRevenue}
+     * @return the items of the feed as {@link List} of {@link RevenueFeedItem}
      */
     @Query(
-            value = "SELECT DISTINCT " + REVENUES_KEY + ".* FROM " + GENERAL_REVENUES_KEY +
-                    " AS " + REVENUES_KEY + " LEFT JOIN " + REVENUE_LABELS_KEY + " AS rv " +
-                    " ON " + REVENUES_KEY + "." + IDENTIFIER_KEY + " = rv." + REVENUE_IDENTIFIER_KEY +
-                    " LEFT JOIN " + LABELS_KEY + " AS l ON l." + IDENTIFIER_KEY + "=" + "rv." + IDENTIFIER_KEY +
-                    _WHERE_ + REVENUES_KEY + "." + OWNER_KEY + " = :" + IDENTIFIER_KEY +
-                    " AND " + REVENUES_KEY + "." + REVENUE_DATE_KEY + " >= :" + REVENUE_PERIOD_KEY +
-                    " AND (" +
-                        "COALESCE(:" + REVENUE_LABELS_KEY + ") IS NULL OR " +
-                        "l." + REVENUE_LABEL_TEXT_KEY + " IN (:" + REVENUE_LABELS_KEY + ")" +
-                    " )" +
-                    " AND dtype = 'general'" +
-                    " ORDER BY " + REVENUES_KEY + "." + REVENUE_DATE_KEY + " DESC",
+            value = "SELECT " + IDENTIFIER_KEY + ", kind FROM (" +
+                        "(SELECT r." + IDENTIFIER_KEY + ", 'general' AS kind, r." + REVENUE_DATE_KEY +
+                        " FROM " + GENERAL_REVENUES_KEY + " AS r" + GENERAL_REVENUES_FILTER + SEEK_CONDITION +
+                        FEED_BRANCH_ORDER + ")" +
+                        " UNION ALL " +
+                        "(SELECT p." + IDENTIFIER_KEY + ", 'project', p." + REVENUE_DATE_KEY +
+                        " FROM " + PROJECT_REVENUES_KEY + " AS p" + PROJECT_REVENUES_FILTER + SEEK_CONDITION +
+                        FEED_BRANCH_ORDER + ")" +
+                    ") AS feed" +
+                    SEEK_ORDER + " OFFSET :" + FEED_OFFSET_KEY,
             nativeQuery = true
     )
-    List<GeneralRevenue> getGeneralRevenues(
+    List<RevenueFeedItem> getRevenuesFeed(
             @Param(IDENTIFIER_KEY) String userId,
             @Param(REVENUE_PERIOD_KEY) long fromDate,
+            @Param(GENERAL_REVENUES_KEY) boolean retrieveGeneralRevenues,
+            @Param(PROJECT_REVENUES_KEY) boolean retrieveProjectRevenues,
             @Param(REVENUE_LABELS_KEY) List<String> labels,
-            Pageable pageable);
+            @Param(CURSOR_DATE_KEY) long cursorDate,
+            @Param(CURSOR_ID_KEY) String cursorId,
+            @Param(PAGE_SIZE_KEY) int pageSize,
+            @Param(FEED_OFFSET_KEY) long offset,
+            @Param(FEED_LIMIT_KEY) long feedLimit
+    );
+
+    /**
+     * Method to get the general revenues with the specified identifiers
+     *
+     * @param revenuesIds The identifiers of the revenues to get
+     *
+     * @return the revenues as {@link List} of {@link GeneralRevenue}
+     */
+    @Query(
+            value = "SELECT * FROM " + GENERAL_REVENUES_KEY +
+                    _WHERE_ + IDENTIFIER_KEY + " IN (:" + REVENUES_IDS_KEY + ")",
+            nativeQuery = true
+    )
+    List<GeneralRevenue> getGeneralRevenuesByIds(
+            @Param(REVENUES_IDS_KEY) Collection<String> revenuesIds
+    );
 
+    /**
+     * Method to get the projects with the specified identifiers
+     *
+     * @param revenuesIds The identifiers of the projects to get
+     *
+     * @return the projects as {@link List} of {@link ProjectRevenue}
+     */
+    @Query(
+            value = "SELECT * FROM " + PROJECT_REVENUES_KEY +
+                    _WHERE_ + IDENTIFIER_KEY + " IN (:" + REVENUES_IDS_KEY + ")",
+            nativeQuery = true
+    )
+    List<ProjectRevenue> getProjectRevenuesByIds(
+            @Param(REVENUES_IDS_KEY) Collection<String> revenuesIds
+    );
+
+    
     /**
      * Method to get a general revenue if exists
      *
@@ -216,64 +349,69 @@ public interface RevenuesRepository extends JpaRepository<Revenue, String> {
     );
 
     /**
-     * Method to convert a general revenue value
+     * Method to get the identifier of the last general revenue of the next chunk to convert, the revenues of a user
+     * are converted in chunks ordered by their identifier
      *
-     * @param revenueId The identifier of the revenue to convert
-     * @param value The value converted to set
+     * @param ownerId The identifier of the owner of the revenues
+     * @param checkpoint The identifier of the last general revenue already converted
+     * @param chunkSize The max number of the general revenues of the chunk
+     *
+     * @return the identifier of the last general revenue of the chunk as {@link String}, {@code null} if all the
+     * general revenues have been converted
      */
-    @Modifying(clearAutomatically = true)
-    @Transactional
     @Query(
-            value = "UPDATE " + GENERAL_REVENUES_KEY
-                    + " SET " + REVENUE_VALUE_KEY + "=:" + REVENUE_VALUE_KEY
-                    + _WHERE_ + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+            value = "SELECT MAX(" + IDENTIFIER_KEY + ") FROM (SELECT " + IDENTIFIER_KEY + " FROM " + GENERAL_REVENUES_KEY
+                    + _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY
+                    + " AND " + IDENTIFIER_KEY + ">:" + CONVERSION_CHECKPOINT_KEY
+                    + " ORDER BY " + IDENTIFIER_KEY + " LIMIT :" + CHUNK_SIZE_KEY + ") AS chunk",
             nativeQuery = true
     )
-    void convertGeneralRevenue(
-            @Param(IDENTIFIER_KEY) String revenueId,
-            @Param(REVENUE_VALUE_KEY) double value
+    String getGeneralRevenuesChunkEnd(
+            @Param(OWNER_KEY) String ownerId,
+            @Param(CONVERSION_CHECKPOINT_KEY) String checkpoint,
+            @Param(CHUNK_SIZE_KEY) int chunkSize
     );
 
     /**
-     * Method to count the projects of a user
+     * Method to convert with a single statement the values of a chunk of the general revenues and of the tickets of
+     * a user
      *
-     * @param userId The user identifier
-     * @param fromDate The date from fetch the revenues
+     * @param ownerId The identifier of the owner of the revenues
+     * @param checkpoint The identifier of the last general revenue already converted
+     * @param chunkEnd The identifier of the last general revenue of the chunk
+     * @param factor The factor to apply to the values to convert them in the new currency
      *
-     * @return the count the projects of a user as long
+     * @return the number of the general revenues converted as int
      */
+    @Modifying(clearAutomatically = true)
+    @Transactional
     @Query(
-            value = "SELECT COUNT(*) FROM " + PROJECT_REVENUES_KEY +
-                    _WHERE_ + OWNER_KEY + "=:" + IDENTIFIER_KEY +
-                    " AND " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY +
-                    " ORDER BY " + REVENUE_DATE_KEY + " DESC",
+            value = "UPDATE " + GENERAL_REVENUES_KEY
+                    + " SET " + REVENUE_VALUE_KEY + "=ROUND(" + REVENUE_VALUE_KEY + "*:" + CONVERSION_FACTOR_KEY + ",2)"
+                    + _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY + CHUNK_FILTER,
             nativeQuery = true
     )
-    long countProjectRevenues(
-            @Param(IDENTIFIER_KEY) String userId,
-            @Param(REVENUE_PERIOD_KEY) long fromDate
+    int convertGeneralRevenuesChunk(
+            @Param(OWNER_KEY) String ownerId,
+            @Param(CONVERSION_CHECKPOINT_KEY) String checkpoint,
+            @Param(CHUNK_END_KEY) String chunkEnd,
+            @Param(CONVERSION_FACTOR_KEY) double factor
     );
 
     /**
-     * Method to get the projects of a user
+     * Method to count the rows of a user which are converted when its currency is changed
      *
-     * @param userId The user identifier
-     * @param pageable  The parameters to paginate the query
-     * @param fromDate The date from fetch the revenues
+     * @param ownerId The identifier of the owner of the revenues
      *
-     * @return the revenues as {@link List} of {@link ProjectRevenue}
+     * @return the number of the rows to convert as long
      */
     @Query(
-            value = "SELECT * FROM " + PROJECT_REVENUES_KEY +
-                    _WHERE_ + OWNER_KEY + "=:" + IDENTIFIER_KEY +
-                    " AND " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY +
-                    " ORDER BY " + REVENUE_DATE_KEY + " DESC",
+            value = "SELECT (SELECT COUNT(*) FROM " + GENERAL_REVENUES_KEY + _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY
+                    + ") + (SELECT COUNT(*) FROM " + INITIAL_REVENUES_KEY + _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY + ")",
             nativeQuery = true
     )
-    List<ProjectRevenue> getProjectRevenues(
-            @Param(IDENTIFIER_KEY) String userId,
-            @Param(REVENUE_PERIOD_KEY) long fromDate,
-            Pageable pageable
+    long countConvertibleRows(
+            @Param(OWNER_KEY) String ownerId
     );
 
     /**
@@ -388,6 +526,22 @@ public interface RevenuesRepository extends JpaRepository<Revenue, String> {
             @Param(PROJECT_REVENUE_KEY) String projectRevenue
     );
 
+    /**
+     * Method to get the initial revenue of a project
+     *
+     * @param projectId The identifier of the project
+     *
+     * @return the initial revenue of the project as {@link InitialRevenue}
+     */
+    @Query(
+            value = "SELECT * FROM " + INITIAL_REVENUES_KEY +
+                    _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY,
+            nativeQuery = true
+    )
+    InitialRevenue getInitialRevenue(
+            @Param(PROJECT_REVENUE_KEY) String projectId
+    );
+
     /**
      * Method to edit an initial revenue
      *
@@ -488,139 +642,218 @@ public interface RevenuesRepository extends JpaRepository<Revenue, String> {
     );
 
     /**
-     * Method to count all the tickets of the project
+     * {@code TICKETS_FILTER} the filter applied to select the tickets of a project
+     */
+    String TICKETS_FILTER = _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
+            " AND " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY +
+            " AND dtype = 'ticket'" +
+            " AND (" +
+                "(:" + PENDING_TICKETS_KEY + " AND " + CLOSING_DATE_KEY + "=-1)" +
+                " OR (:" + CLOSED_TICKETS_KEY + " AND " + CLOSING_DATE_KEY + "!=-1)" +
+            ")";
+
+    /**
+     * Method to count the tickets of a project
      *
      * @param projectId The project where the ticket is attached
-     * @param fromDate The date from fetch the revenues
+     * @param fromDate The date from fetch the tickets
+     * @param retrievePendingTickets Whether count the pending tickets
+     * @param retrieveClosedTickets Whether count the closed tickets
      *
-     * @return the count of the all tickets of a project as long
+     * @return the count of the tickets as long
      */
     @Query(
-            value = "SELECT COUNT(*) FROM " + GENERAL_REVENUES_KEY +
-                    _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
-                    " AND " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY +
-                    " AND dtype = 'ticket'" +
-                    " ORDER BY " + REVENUE_DATE_KEY + " DESC",
+            value = "SELECT COUNT(*) FROM " + GENERAL_REVENUES_KEY + TICKETS_FILTER,
             nativeQuery = true
     )
-    long countAllTickets(
+    long countTickets(
             @Param(PROJECT_REVENUE_KEY) String projectId,
-            @Param(REVENUE_PERIOD_KEY) long fromDate
+            @Param(REVENUE_PERIOD_KEY) long fromDate,
+            @Param(PENDING_TICKETS_KEY) boolean retrievePendingTickets,
+            @Param(CLOSED_TICKETS_KEY) boolean retrieveClosedTickets
     );
 
     /**
-     * Method to get all the tickets of a project
+     * Method to get a page of the tickets of a project, the tickets are seeked after the cursor of the keyset
+     * pagination and then the offset is skipped
      *
      * @param projectId The project where the ticket is attached
-     * @param pageable  The parameters to paginate the query
      * @param fromDate The date from fetch the tickets
+     * @param retrievePendingTickets Whether include the pending tickets
+     * @param retrieveClosedTickets Whether include the closed tickets
+     * @param cursorDate The date of the cursor of the keyset pagination
+     * @param cursorId The identifier of the cursor of the keyset pagination
+     * @param pageSize The max number of tickets to fetch
+     * @param offset The number of tickets to skip after the cursor
      *
-     * @return all the tickets as {@link List} of {@link TicketRevenue}
+     * @return the tickets as {@link List} of {@link TicketRevenue}
      */
     @Query(
-            value = "SELECT * FROM " + GENERAL_REVENUES_KEY +
-                    _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
-                    " AND " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY +
-                    " AND dtype = 'ticket'" +
-                    " ORDER BY " + REVENUE_DATE_KEY + " DESC",
+            value = "SELECT * FROM " + GENERAL_REVENUES_KEY + TICKETS_FILTER +
+                    SEEK_CONDITION +
+                    SEEK_ORDER + " OFFSET :" + FEED_OFFSET_KEY,
             nativeQuery = true
     )
-    List<TicketRevenue> getAllTickets(
+    List<TicketRevenue> getTicketsPage(
             @Param(PROJECT_REVENUE_KEY) String projectId,
             @Param(REVENUE_PERIOD_KEY) long fromDate,
-            Pageable pageable
+            @Param(PENDING_TICKETS_KEY) boolean retrievePendingTickets,
+            @Param(CLOSED_TICKETS_KEY) boolean retrieveClosedTickets,
+            @Param(CURSOR_DATE_KEY) long cursorDate,
+            @Param(CURSOR_ID_KEY) String cursorId,
+            @Param(PAGE_SIZE_KEY) int pageSize,
+            @Param(FEED_OFFSET_KEY) long offset
     );
 
     /**
-     * Method to count the pending tickets of the project
+     * Method to get a page of the pending tickets of all the projects of a user, the tickets are seeked after the
+     * cursor of the keyset pagination walking the {@link GeneralRevenue#OWNER_TICKETS_INDEX} index
      *
-     * @param projectId The project where the ticket is attached
-     * @param fromDate The date from fetch the revenues
+     * @param userId The identifier of the owner of the tickets
+     * @param cursorDate The date of the cursor of the keyset pagination
+     * @param cursorId The identifier of the cursor of the keyset pagination
+     * @param pageSize The max number of tickets to fetch
      *
-     * @return the count of the pending tickets of a project as long
+     * @return the pending tickets as {@link List} of {@link TicketRevenue}
      */
     @Query(
-            value = "SELECT COUNT(*) FROM " + GENERAL_REVENUES_KEY +
-                    _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
-                    " AND " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY +
+            value = "SELECT * FROM " + GENERAL_REVENUES_KEY +
+                    _WHERE_ + OWNER_KEY + "=:" + IDENTIFIER_KEY +
+                    " AND dtype='ticket'" +
                     " AND " + CLOSING_DATE_KEY + "=-1" +
-                    " AND dtype = 'ticket'" +
-                    " ORDER BY " + REVENUE_DATE_KEY + " DESC",
+                    SEEK_CONDITION +
+                    SEEK_ORDER,
             nativeQuery = true
     )
-    long countPendingTickets(
-            @Param(PROJECT_REVENUE_KEY) String projectId,
-            @Param(REVENUE_PERIOD_KEY) long fromDate
+    List<TicketRevenue> getPendingTicketsFeed(
+            @Param(IDENTIFIER_KEY) String userId,
+            @Param(CURSOR_DATE_KEY) long cursorDate,
+            @Param(CURSOR_ID_KEY) String cursorId,
+            @Param(PAGE_SIZE_KEY) int pageSize
     );
 
     /**
-     * Method to get the pending tickets of a project
+     * Method to get the tickets of the specified projects with a single query
      *
-     * @param projectId The project where the ticket is attached
-     * @param pageable  The parameters to paginate the query
-     * @param fromDate The date from fetch the tickets
+     * @param projectsIds The identifiers of the projects
      *
-     * @return the pending tickets as {@link List} of {@link TicketRevenue}
+     * @return the tickets of the projects ordered by date as {@link List} of {@link TicketRevenue}
      */
     @Query(
             value = "SELECT * FROM " + GENERAL_REVENUES_KEY +
-                    _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
-                    " AND " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY +
-                    " AND " + CLOSING_DATE_KEY + "=-1" +
-                    " AND dtype = 'ticket'" +
-                    " ORDER BY " + REVENUE_DATE_KEY + " DESC",
+                    _WHERE_ + PROJECT_REVENUE_KEY + " IN (:" + REVENUES_IDS_KEY + ")" +
+                    " AND dtype='ticket'" +
+                    " ORDER BY " + REVENUE_DATE_KEY + " DESC, " + IDENTIFIER_KEY + " DESC",
             nativeQuery = true
     )
-    List<TicketRevenue> getPendingTickets(
-            @Param(PROJECT_REVENUE_KEY) String projectId,
-            @Param(REVENUE_PERIOD_KEY) long fromDate,
-            Pageable pageable
+    List<TicketRevenue> getProjectsTickets(
+            @Param(REVENUES_IDS_KEY) Collection<String> projectsIds
     );
 
     /**
-     * Method to count the closed tickets of the project
+     * Method to sum with a single query the values of the tickets of the specified projects which fall in a period,
+     * the pending tickets are always summed while the closed ones just if closed from the specified date
      *
-     * @param projectId The project where the ticket is attached
-     * @param fromDate The date from fetch the revenues
+     * @param projectsIds The identifiers of the projects
+     * @param fromDate The date from which sum the closed tickets
      *
-     * @return the count of the closed tickets of a project as long
+     * @return the sum of the values of the tickets of each project as {@link List} of {@link ProjectTicketsValue}
+     */
+    @Query(
+            value = "SELECT " + PROJECT_REVENUE_KEY + " AS id, SUM(" + REVENUE_VALUE_KEY + ") AS amount" +
+                    " FROM " + GENERAL_REVENUES_KEY +
+                    _WHERE_ + PROJECT_REVENUE_KEY + " IN (:" + REVENUES_IDS_KEY + ")" +
+                    " AND dtype='ticket'" +
+                    " AND (" + CLOSING_DATE_KEY + "=-1 OR " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY + ")" +
+                    " GROUP BY " + PROJECT_REVENUE_KEY,
+            nativeQuery = true
+    )
+    List<ProjectTicketsValue> sumProjectsTicketsInPeriod(
+            @Param(REVENUES_IDS_KEY) Collection<String> projectsIds,
+            @Param(REVENUE_PERIOD_KEY) long fromDate
+    );
+
+    /**
+     * Method to count the tickets of a project with the specified title, the lookup is answered by the index on the
+     * title so the tickets of the project are never loaded
+     *
+     * @param projectId The identifier of the project
+     * @param ticketTitle The title of the ticket to check
+     *
+     * @return the count of the tickets with that title as long
      */
     @Query(
             value = "SELECT COUNT(*) FROM " + GENERAL_REVENUES_KEY +
-                    _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
-                    " AND " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY +
-                    " AND " + CLOSING_DATE_KEY + "=-1" +
-                    " AND dtype = 'ticket'" +
-                    " ORDER BY " + REVENUE_DATE_KEY + " DESC",
+                    _WHERE_ + REVENUE_TITLE_KEY + "=:" + REVENUE_TITLE_KEY +
+                    " AND " + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
+                    " AND dtype='ticket'",
             nativeQuery = true
     )
-    long countClosedTickets(
+    long countTicketsByTitle(
             @Param(PROJECT_REVENUE_KEY) String projectId,
-            @Param(REVENUE_PERIOD_KEY) long fromDate
+            @Param(REVENUE_TITLE_KEY) String ticketTitle
     );
 
     /**
-     * Method to get the closed tickets of a project
+     * Method to aggregate with a single query the statistics of the tickets of a project
      *
-     * @param projectId The project where the ticket is attached
-     * @param pageable  The parameters to paginate the query
-     * @param fromDate The date from fetch the tickets
+     * @param projectId The identifier of the project
+     *
+     * @return the statistics of the tickets as {@link ProjectTicketsStats}
+     */
+    @Query(
+            value = "SELECT COUNT(CASE WHEN " + CLOSING_DATE_KEY + "=-1 THEN 1 END) AS pending," +
+                    " COUNT(CASE WHEN " + CLOSING_DATE_KEY + "!=-1 THEN 1 END) AS closed," +
+                    " COALESCE(SUM(CASE WHEN " + CLOSING_DATE_KEY + "=-1 THEN " + REVENUE_VALUE_KEY + " END), 0)" +
+                    " AS outstanding," +
+                    " COALESCE(SUM(CASE WHEN " + CLOSING_DATE_KEY + "!=-1 THEN " + REVENUE_VALUE_KEY + " END), 0)" +
+                    " AS collected," +
+                    " AVG(CASE WHEN " + CLOSING_DATE_KEY + "!=-1 THEN " + CLOSING_DATE_KEY + " - " + REVENUE_DATE_KEY +
+                    " END) AS duration" +
+                    " FROM " + GENERAL_REVENUES_KEY +
+                    _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
+                    " AND dtype='ticket'",
+            nativeQuery = true
+    )
+    ProjectTicketsStats getProjectTicketsStats(
+            @Param(PROJECT_REVENUE_KEY) String projectId
+    );
+
+    /**
+     * Method to get the tickets of a project with the largest values
      *
-     * @return the closed tickets as {@link List} of {@link TicketRevenue}
+     * @param projectId The identifier of the project
+     * @param limit The max number of tickets to get
+     *
+     * @return the tickets ordered by value as {@link List} of {@link TicketRevenue}
      */
     @Query(
             value = "SELECT * FROM " + GENERAL_REVENUES_KEY +
                     _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
-                    " AND " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY +
-                    " AND " + CLOSING_DATE_KEY + "!=-1" +
-                    " AND dtype = 'ticket'" +
-                    " ORDER BY " + REVENUE_DATE_KEY + " DESC",
+                    " AND dtype='ticket'" +
+                    " ORDER BY " + REVENUE_VALUE_KEY + " DESC, " + IDENTIFIER_KEY + " DESC LIMIT :" + PAGE_SIZE_KEY,
             nativeQuery = true
     )
-    List<TicketRevenue> getClosedTickets(
+    List<TicketRevenue> getLargestTickets(
             @Param(PROJECT_REVENUE_KEY) String projectId,
-            @Param(REVENUE_PERIOD_KEY) long fromDate,
-            Pageable pageable
+            @Param(PAGE_SIZE_KEY) int limit
+    );
+
+    /**
+     * Method to get the dates of the tickets of a project
+     *
+     * @param projectId The identifier of the project
+     *
+     * @return the dates of the tickets as {@link List} of {@link Long}
+     */
+    @Query(
+            value = "SELECT " + REVENUE_DATE_KEY + " FROM " + GENERAL_REVENUES_KEY +
+                    _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
+                    " AND dtype='ticket'",
+            nativeQuery = true
+    )
+    List<Long> getTicketsDates(
+            @Param(PROJECT_REVENUE_KEY) String projectId
     );
 
     /**
@@ -665,7 +898,9 @@ public interface RevenuesRepository extends JpaRepository<Revenue, String> {
     );
 
     /**
-     * Method to close a ticket revenue
+     * Method to close a ticket revenue, with the same statement the last revenue date of the project is moved to the
+     * closing date and the closed ticket is moved between the materialized counters of the project, so concurrent
+     * closes on the same project are serialized by the lock of the project row
      *
      * @param ticketId The identifier of the ticket
      * @param ownerId The identifier of the owner of the project
@@ -675,12 +910,21 @@ public interface RevenuesRepository extends JpaRepository<Revenue, String> {
     @Modifying(clearAutomatically = true)
     @Transactional
     @Query(
-            value = "UPDATE " + GENERAL_REVENUES_KEY
-                    + " SET " + CLOSING_DATE_KEY + "=:" + CLOSING_DATE_KEY
-                    + _WHERE_ + "dtype='ticket' AND "
-                    + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY + " AND "
-                    + OWNER_KEY + "=:" + OWNER_KEY + " AND "
-                    + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY,
+            value = "UPDATE " + GENERAL_REVENUES_KEY + " AS t INNER JOIN " + PROJECT_REVENUES_KEY + " AS p ON p."
+                    + IDENTIFIER_KEY + "=t." + PROJECT_REVENUE_KEY
+                    + " SET t." + CLOSING_DATE_KEY + "=:" + CLOSING_DATE_KEY + ","
+                    + "p." + REVENUE_DATE_KEY + "=GREATEST(p." + REVENUE_DATE_KEY + ", :" + CLOSING_DATE_KEY + "),"
+                    + "p." + PENDING_TICKETS_VALUE_KEY + "=ROUND(p." + PENDING_TICKETS_VALUE_KEY + " - t."
+                    + REVENUE_VALUE_KEY + ", 2),"
+                    + "p." + CLOSED_TICKETS_VALUE_KEY + "=ROUND(p." + CLOSED_TICKETS_VALUE_KEY + " + t."
+                    + REVENUE_VALUE_KEY + ", 2),"
+                    + "p." + PENDING_TICKETS_COUNT_KEY + "=p." + PENDING_TICKETS_COUNT_KEY + " - 1,"
+                    + "p." + CLOSED_TICKETS_COUNT_KEY + "=p." + CLOSED_TICKETS_COUNT_KEY + " + 1"
+                    + _WHERE_ + "t.dtype='ticket' AND "
+                    + "t." + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY + " AND "
+                    + "t." + OWNER_KEY + "=:" + OWNER_KEY + " AND "
+                    + "t." + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY + " AND "
+                    + "t." + CLOSING_DATE_KEY + "=-1",
             nativeQuery = true
     )
     void closeTicketRevenue(
@@ -706,6 +950,83 @@ public interface RevenuesRepository extends JpaRepository<Revenue, String> {
             @Param(IDENTIFIER_KEY) String ticketId
     );
 
+    /**
+     * Method to get the dates of the specified tickets of a project, used also to check that all the tickets are
+     * attached to the project
+     *
+     * @param projectId The identifier of the project where the tickets are attached
+     * @param ownerId The identifier of the owner of the tickets
+     * @param ticketsIds The identifiers of the tickets
+     * @param pendingOnly Whether select just the pending tickets
+     *
+     * @return the dates of the tickets found as {@link List} of {@link Long}
+     */
+    @Query(
+            value = "SELECT " + REVENUE_DATE_KEY + " FROM " + GENERAL_REVENUES_KEY +
+                    _WHERE_ + "dtype='ticket' AND " +
+                    PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY + " AND " +
+                    OWNER_KEY + "=:" + OWNER_KEY + " AND " +
+                    IDENTIFIER_KEY + " IN (:" + REVENUES_IDS_KEY + ")" +
+                    " AND (NOT :" + PENDING_TICKETS_KEY + " OR " + CLOSING_DATE_KEY + "=-1)",
+            nativeQuery = true
+    )
+    List<Long> getProjectTicketsDates(
+            @Param(PROJECT_REVENUE_KEY) String projectId,
+            @Param(OWNER_KEY) String ownerId,
+            @Param(REVENUES_IDS_KEY) Collection<String> ticketsIds,
+            @Param(PENDING_TICKETS_KEY) boolean pendingOnly
+    );
+
+    /**
+     * Method to close many pending tickets of a project with a single statement
+     *
+     * @param ticketsIds The identifiers of the tickets to close
+     * @param ownerId The identifier of the owner of the tickets
+     * @param projectId The identifier of the project where the tickets are attached
+     * @param closingTime The date when the tickets have been closed
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + GENERAL_REVENUES_KEY
+                    + " SET " + CLOSING_DATE_KEY + "=:" + CLOSING_DATE_KEY
+                    + _WHERE_ + "dtype='ticket' AND "
+                    + IDENTIFIER_KEY + " IN (:" + REVENUES_IDS_KEY + ") AND "
+                    + OWNER_KEY + "=:" + OWNER_KEY + " AND "
+                    + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY + " AND "
+                    + CLOSING_DATE_KEY + "=-1",
+            nativeQuery = true
+    )
+    void closeTickets(
+            @Param(REVENUES_IDS_KEY) Collection<String> ticketsIds,
+            @Param(OWNER_KEY) String ownerId,
+            @Param(PROJECT_REVENUE_KEY) String projectId,
+            @Param(CLOSING_DATE_KEY) long closingTime
+    );
+
+    /**
+     * Method to delete many tickets of a project with a single statement
+     *
+     * @param ticketsIds The identifiers of the tickets to delete
+     * @param ownerId The identifier of the owner of the tickets
+     * @param projectId The identifier of the project where the tickets are attached
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "DELETE FROM " + GENERAL_REVENUES_KEY
+                    + _WHERE_ + "dtype='ticket' AND "
+                    + IDENTIFIER_KEY + " IN (:" + REVENUES_IDS_KEY + ") AND "
+                    + OWNER_KEY + "=:" + OWNER_KEY + " AND "
+                    + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY,
+            nativeQuery = true
+    )
+    void deleteTickets(
+            @Param(REVENUES_IDS_KEY) Collection<String> ticketsIds,
+            @Param(OWNER_KEY) String ownerId,
+            @Param(PROJECT_REVENUE_KEY) String projectId
+    );
+
     /**
      * Method to edit the last date of a revenue of a project
      *
@@ -726,20 +1047,124 @@ public interface RevenuesRepository extends JpaRepository<Revenue, String> {
     );
 
     /**
-     * Query used to retrieve the last closed ticket of the project
+     * {@code PROJECT_COUNTERS_ASSIGNMENT} the assignment of the materialized balance and tickets counters of the
+     * projects, each counter is computed from the initial revenue and the tickets of the project with alias {@code p}
+     */
+    String PROJECT_COUNTERS_ASSIGNMENT = " SET " +
+            "p." + INITIAL_REVENUE_VALUE_KEY + "=COALESCE((SELECT i." + REVENUE_VALUE_KEY + " FROM " +
+                INITIAL_REVENUES_KEY + " AS i" + _WHERE_ + "i." + PROJECT_REVENUE_KEY + "=p." + IDENTIFIER_KEY + "), 0)," +
+            "p." + INITIAL_REVENUE_DATE_KEY + "=COALESCE((SELECT i." + REVENUE_DATE_KEY + " FROM " +
+                INITIAL_REVENUES_KEY + " AS i" + _WHERE_ + "i." + PROJECT_REVENUE_KEY + "=p." + IDENTIFIER_KEY + "), 0)," +
+            "p." + PENDING_TICKETS_VALUE_KEY + "=(SELECT COALESCE(SUM(t." + REVENUE_VALUE_KEY + "), 0) FROM " +
+                GENERAL_REVENUES_KEY + " AS t" + _WHERE_ + "t." + PROJECT_REVENUE_KEY + "=p." + IDENTIFIER_KEY +
+                " AND t.dtype='ticket' AND t." + CLOSING_DATE_KEY + "=-1)," +
+            "p." + CLOSED_TICKETS_VALUE_KEY + "=(SELECT COALESCE(SUM(t." + REVENUE_VALUE_KEY + "), 0) FROM " +
+                GENERAL_REVENUES_KEY + " AS t" + _WHERE_ + "t." + PROJECT_REVENUE_KEY + "=p." + IDENTIFIER_KEY +
+                " AND t.dtype='ticket' AND t." + CLOSING_DATE_KEY + "!=-1)," +
+            "p." + PENDING_TICKETS_COUNT_KEY + "=(SELECT COUNT(*) FROM " + GENERAL_REVENUES_KEY + " AS t" +
+                _WHERE_ + "t." + PROJECT_REVENUE_KEY + "=p." + IDENTIFIER_KEY + " AND t.dtype='ticket' AND t." +
+                CLOSING_DATE_KEY + "=-1)," +
+            "p." + CLOSED_TICKETS_COUNT_KEY + "=(SELECT COUNT(*) FROM " + GENERAL_REVENUES_KEY + " AS t" +
+                _WHERE_ + "t." + PROJECT_REVENUE_KEY + "=p." + IDENTIFIER_KEY + " AND t.dtype='ticket' AND t." +
+                CLOSING_DATE_KEY + "!=-1)";
+
+    /**
+     * Method to refresh the materialized balance and tickets counters of a project
+     *
+     * @param projectId The identifier of the project
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + PROJECT_REVENUES_KEY + " AS p" + PROJECT_COUNTERS_ASSIGNMENT +
+                    _WHERE_ + "p." + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    void refreshProjectCounters(
+            @Param(IDENTIFIER_KEY) String projectId
+    );
+
+    /**
+     * Method to sum the values of the closed tickets of a project
+     *
+     * @param projectId The identifier of the project
+     * @param fromDate The date from which sum the tickets
+     *
+     * @return the sum of the values of the closed tickets as double
+     */
+    @Query(
+            value = "SELECT COALESCE(SUM(" + REVENUE_VALUE_KEY + "), 0) FROM " + GENERAL_REVENUES_KEY +
+                    _WHERE_ + PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
+                    " AND " + REVENUE_DATE_KEY + ">=:" + REVENUE_PERIOD_KEY +
+                    " AND dtype='ticket' AND " + CLOSING_DATE_KEY + "!=-1",
+            nativeQuery = true
+    )
+    double sumClosedTickets(
+            @Param(PROJECT_REVENUE_KEY) String projectId,
+            @Param(REVENUE_PERIOD_KEY) long fromDate
+    );
+
+    /**
+     * Method to count the tickets of a project reading its materialized counters
+     *
+     * @param projectId The identifier of the project
+     * @param retrievePendingTickets Whether count the pending tickets
+     * @param retrieveClosedTickets Whether count the closed tickets
+     *
+     * @return the count of the tickets as long
+     */
+    @Query(
+            value = "SELECT (CASE WHEN :" + PENDING_TICKETS_KEY + " THEN " + PENDING_TICKETS_COUNT_KEY + " ELSE 0 END)" +
+                    " + (CASE WHEN :" + CLOSED_TICKETS_KEY + " THEN " + CLOSED_TICKETS_COUNT_KEY + " ELSE 0 END)" +
+                    " FROM " + PROJECT_REVENUES_KEY + _WHERE_ + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    long countTicketsFromCounters(
+            @Param(IDENTIFIER_KEY) String projectId,
+            @Param(PENDING_TICKETS_KEY) boolean retrievePendingTickets,
+            @Param(CLOSED_TICKETS_KEY) boolean retrieveClosedTickets
+    );
+
+    /**
+     * Method to refresh a project after some of its tickets have been deleted, with a single correlated statement the
+     * materialized counters are regenerated and the last revenue date is set to the last closed ticket date if
+     * available, otherwise to the revenue date of the initial revenue
+     *
+     * @param revenueId The identifier of the project revenue
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + PROJECT_REVENUES_KEY + " AS p" + PROJECT_COUNTERS_ASSIGNMENT + "," +
+                    "p." + REVENUE_DATE_KEY + "=COALESCE(" +
+                        "(SELECT MAX(t." + CLOSING_DATE_KEY + ") FROM " + GENERAL_REVENUES_KEY + " AS t" +
+                        _WHERE_ + "t." + PROJECT_REVENUE_KEY + "=p." + IDENTIFIER_KEY + " AND t.dtype='ticket'" +
+                        " AND t." + CLOSING_DATE_KEY + "!=-1)," +
+                        "(SELECT i." + REVENUE_DATE_KEY + " FROM " + INITIAL_REVENUES_KEY + " AS i" +
+                        _WHERE_ + "i." + PROJECT_REVENUE_KEY + "=p." + IDENTIFIER_KEY + ")," +
+                        "p." + REVENUE_DATE_KEY +
+                    ")" +
+                    _WHERE_ + "p." + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    void refreshProjectAfterTicketsDeletion(
+            @Param(IDENTIFIER_KEY) String revenueId
+    );
+
+    /**
+     * Method to get the last revenue date of a project
      *
      * @param revenueId The identifier of the project revenue
      *
-     * @return the timestamp of the last closed ticket as {@link Long}, {@code null} if not exists
+     * @return the last revenue date of the project as long
      */
     @Query(
-            value = "SELECT MAX(" + CLOSING_DATE_KEY + ") FROM " + GENERAL_REVENUES_KEY +
-                    _WHERE_ +  PROJECT_REVENUE_KEY + "=:" + PROJECT_REVENUE_KEY +
-                    " AND " + CLOSING_DATE_KEY + "!= -1",
+            value = "SELECT " + REVENUE_DATE_KEY + " FROM " + PROJECT_REVENUES_KEY +
+                    _WHERE_ + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
             nativeQuery = true
     )
-    Long getLastClosedTicketDate(
-            @Param(PROJECT_REVENUE_KEY) String revenueId
+    long getProjectRevenueDate(
+            @Param(IDENTIFIER_KEY) String revenueId
     );
 
     /**
@@ -762,22 +1187,53 @@ public interface RevenuesRepository extends JpaRepository<Revenue, String> {
     );
 
     /**
-     * Method to convert an initial revenue value
+     * Method to get the identifier of the last initial revenue of the next chunk to convert, the initial revenues of
+     * a user are converted in chunks ordered by their identifier
      *
-     * @param revenueId The identifier of the revenue to convert
-     * @param value The value converted to set
+     * @param ownerId The identifier of the owner of the revenues
+     * @param checkpoint The identifier of the last initial revenue already converted
+     * @param chunkSize The max number of the initial revenues of the chunk
+     *
+     * @return the identifier of the last initial revenue of the chunk as {@link String}, {@code null} if all the
+     * initial revenues have been converted
+     */
+    @Query(
+            value = "SELECT MAX(" + IDENTIFIER_KEY + ") FROM (SELECT " + IDENTIFIER_KEY + " FROM " + INITIAL_REVENUES_KEY
+                    + _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY
+                    + " AND " + IDENTIFIER_KEY + ">:" + CONVERSION_CHECKPOINT_KEY
+                    + " ORDER BY " + IDENTIFIER_KEY + " LIMIT :" + CHUNK_SIZE_KEY + ") AS chunk",
+            nativeQuery = true
+    )
+    String getInitialRevenuesChunkEnd(
+            @Param(OWNER_KEY) String ownerId,
+            @Param(CONVERSION_CHECKPOINT_KEY) String checkpoint,
+            @Param(CHUNK_SIZE_KEY) int chunkSize
+    );
+
+    /**
+     * Method to convert with a single statement the values of a chunk of the initial revenues of the projects of a
+     * user
+     *
+     * @param ownerId The identifier of the owner of the revenues
+     * @param checkpoint The identifier of the last initial revenue already converted
+     * @param chunkEnd The identifier of the last initial revenue of the chunk
+     * @param factor The factor to apply to the values to convert them in the new currency
+     *
+     * @return the number of the initial revenues converted as int
      */
     @Modifying(clearAutomatically = true)
     @Transactional
     @Query(
             value = "UPDATE " + INITIAL_REVENUES_KEY
-                    + " SET " + REVENUE_VALUE_KEY + "=:" + REVENUE_VALUE_KEY
-                    + _WHERE_ + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+                    + " SET " + REVENUE_VALUE_KEY + "=ROUND(" + REVENUE_VALUE_KEY + "*:" + CONVERSION_FACTOR_KEY + ",2)"
+                    + _WHERE_ + OWNER_KEY + "=:" + OWNER_KEY + CHUNK_FILTER,
             nativeQuery = true
     )
-    void convertInitialRevenue(
-            @Param(IDENTIFIER_KEY) String revenueId,
-            @Param(REVENUE_VALUE_KEY) double value
+    int convertInitialRevenuesChunk(
+            @Param(OWNER_KEY) String ownerId,
+            @Param(CONVERSION_CHECKPOINT_KEY) String checkpoint,
+            @Param(CHUNK_END_KEY) String chunkEnd,
+            @Param(CONVERSION_FACTOR_KEY) double factor
     );
 
 }
@@ -0,0 +1,243 @@
+package com.tecknobit.neutron.services.revenues.service;
+
+import com.tecknobit.neutron.services.revenues.jobs.CurrencyConversionJob;
+import com.tecknobit.neutroncore.dtos.CurrencyConversionStatus;
+import com.tecknobit.neutroncore.enums.NeutronCurrency;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.tecknobit.neutroncore.enums.ConversionJobState.IDLE;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+/**
+ * The {@code CurrencyConversionExecutor} class is useful to execute the conversions of the revenues of the users in a
+ * new currency on a shared bounded pool. Each user has at most one conversion running and one queued at a time, the
+ * currency changes requested while a conversion is running are coalesced in the queued one, which converts the
+ * revenues directly to the latest currency requested. The progress of each conversion is persisted by the
+ * {@link CurrencyConversionService}, so the jobs lost when the backend is stopped can be submitted again to resume
+ * them. <br>
+ * A job is never executed by the thread which submits it: when the pool is saturated the job stays queued and its
+ * dispatch is retried later, while a failed job is queued again and retried with an exponential backoff, resuming
+ * its persisted run. The jobs are tracked just until they are completed
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @see CurrencyConversionJob
+ *
+ * @since 1.0.5
+ */
+@Service
+public class CurrencyConversionExecutor {
+
+    /**
+     * {@code CONVERSIONS_THREAD_NAME} the prefix of the name of the threads which execute the conversions
+     */
+    private static final String CONVERSIONS_THREAD_NAME = "currency-conversions-";
+
+    /**
+     * {@code RETRIES_THREAD_NAME} the name of the thread which schedules the retries of the jobs
+     */
+    private static final String RETRIES_THREAD_NAME = "currency-conversions-retries";
+
+    /**
+     * {@code MAX_BACKOFF_SHIFT} the max number of times the retry delay is doubled, used to not overflow the delay
+     */
+    private static final int MAX_BACKOFF_SHIFT = 20;
+
+    /**
+     * {@code conversionService} the service which converts the revenues
+     */
+    private final CurrencyConversionService conversionService;
+
+    /**
+     * {@code conversionsExecutor} the bounded pool which executes the conversions
+     */
+    private final ThreadPoolExecutor conversionsExecutor;
+
+    /**
+     * {@code retriesScheduler} the scheduler of the retries of the jobs failed or rejected by the saturated pool
+     */
+    private final ScheduledExecutorService retriesScheduler;
+
+    /**
+     * {@code retryMillis} how long wait before the first retry of a job, in milliseconds
+     */
+    private final long retryMillis;
+
+    /**
+     * {@code maxRetryMillis} the max delay between two retries of a job, in milliseconds
+     */
+    private final long maxRetryMillis;
+
+    /**
+     * {@code currentJobs} the job dispatched for each user, removed when it is completed
+     */
+    private final HashMap<String, CurrencyConversionJob> currentJobs;
+
+    /**
+     * {@code queuedJobs} the job of each user waiting for the completion of its current job
+     */
+    private final HashMap<String, CurrencyConversionJob> queuedJobs;
+
+    /**
+     * Constructor to init the executor
+     *
+     * @param conversionService The service which converts the revenues
+     * @param conversionsThreads The max number of conversions executed concurrently
+     * @param queuedConversions The max number of conversions waiting in the pool, when the pool is full the
+     *                          conversion stays queued and its dispatch is retried later
+     * @param retrySeconds How long wait before the first retry of a job, in seconds
+     * @param maxRetryMinutes The max delay between two retries of a job, in minutes
+     */
+    @Autowired
+    public CurrencyConversionExecutor(CurrencyConversionService conversionService,
+                                      @Value("${neutron.conversions.threads:2}") int conversionsThreads,
+                                      @Value("${neutron.conversions.queued-conversions:256}") int queuedConversions,
+                                      @Value("${neutron.conversions.retry-seconds:30}") long retrySeconds,
+                                      @Value("${neutron.conversions.max-retry-minutes:30}") long maxRetryMinutes) {
+        this.conversionService = conversionService;
+        AtomicInteger threadsCounter = new AtomicInteger();
+        conversionsExecutor = new ThreadPoolExecutor(conversionsThreads, conversionsThreads, 60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queuedConversions), runnable -> {
+                    Thread thread = new Thread(runnable, CONVERSIONS_THREAD_NAME + threadsCounter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        conversionsExecutor.allowCoreThreadTimeOut(true);
+        retriesScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, RETRIES_THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        retryMillis = retrySeconds * 1000;
+        maxRetryMillis = maxRetryMinutes * 60 * 1000;
+        currentJobs = new HashMap<>();
+        queuedJobs = new HashMap<>();
+    }
+
+    /**
+     * Method to submit the conversion of the revenues of a user. When the user already has a queued conversion its
+     * target currency is replaced, when the user has a running conversion the new one is queued after it
+     *
+     * @param userId The identifier of the user
+     * @param fromCurrency The currency in which the revenues are stored, when the user has a running conversion
+     *                     the queued one starts from its target currency
+     * @param targetCurrency The new currency of the user
+     */
+    public void submit(String userId, NeutronCurrency fromCurrency, NeutronCurrency targetCurrency) {
+        CurrencyConversionJob dispatchingJob;
+        synchronized (currentJobs) {
+            CurrencyConversionJob queuedJob = queuedJobs.get(userId);
+            if(queuedJob != null && queuedJob.retarget(targetCurrency))
+                return;
+            CurrencyConversionJob currentJob = currentJobs.get(userId);
+            if(currentJob != null && currentJob.isActive()) {
+                if(currentJob.retarget(targetCurrency))
+                    return;
+                queuedJobs.put(userId, new CurrencyConversionJob(userId, currentJob.getTargetCurrency(),
+                        targetCurrency));
+                return;
+            }
+            dispatchingJob = new CurrencyConversionJob(userId, fromCurrency, targetCurrency);
+            currentJobs.put(userId, dispatchingJob);
+        }
+        dispatch(dispatchingJob);
+    }
+
+    /**
+     * Method to get the status of the conversion of the revenues of a user, the queued conversion is reported when
+     * available because it is the one which brings the revenues to the latest currency requested
+     *
+     * @param userId The identifier of the user
+     * @param currency The current currency of the user, used when no conversion has been requested
+     *
+     * @return the status of the conversion as {@link CurrencyConversionStatus}
+     */
+    public CurrencyConversionStatus getStatus(String userId, NeutronCurrency currency) {
+        CurrencyConversionJob job;
+        synchronized (currentJobs) {
+            job = queuedJobs.get(userId);
+            if(job == null)
+                job = currentJobs.get(userId);
+        }
+        if(job == null)
+            return new CurrencyConversionStatus(IDLE, currency, currency, 1);
+        return job.toStatus();
+    }
+
+    /**
+     * Method to dispatch a job on the pool, when the pool is saturated the job stays queued and its dispatch is
+     * retried after the retry delay
+     *
+     * @param job The job to dispatch
+     */
+    private void dispatch(CurrencyConversionJob job) {
+        try {
+            conversionsExecutor.execute(() -> execute(job));
+        } catch (RejectedExecutionException e) {
+            schedule(job, retryMillis);
+        }
+    }
+
+    /**
+     * Method to execute a job and then to dispatch the job queued for the same user, if any. When the job fails it is
+     * queued again, absorbing the job queued for the same user, and retried with an exponential backoff
+     *
+     * @param job The job to execute
+     */
+    private void execute(CurrencyConversionJob job) {
+        String userId = job.getUserId();
+        job.start();
+        try {
+            conversionService.convert(job);
+            job.complete();
+        } catch (RuntimeException e) {
+            int failures;
+            synchronized (currentJobs) {
+                failures = job.requeue();
+                CurrencyConversionJob queuedJob = queuedJobs.remove(userId);
+                if(queuedJob != null)
+                    job.retarget(queuedJob.getTargetCurrency());
+            }
+            schedule(job, Math.min(maxRetryMillis, retryMillis << Math.min(failures - 1, MAX_BACKOFF_SHIFT)));
+            return;
+        }
+        CurrencyConversionJob nextJob;
+        synchronized (currentJobs) {
+            nextJob = queuedJobs.remove(userId);
+            if(nextJob == null) {
+                currentJobs.remove(userId, job);
+                return;
+            }
+            currentJobs.put(userId, nextJob);
+        }
+        dispatch(nextJob);
+    }
+
+    /**
+     * Method to schedule the dispatch of a job after a delay
+     *
+     * @param job The job to dispatch
+     * @param delay The delay after which dispatch the job, in milliseconds
+     */
+    private void schedule(CurrencyConversionJob job, long delay) {
+        if(!retriesScheduler.isShutdown())
+            retriesScheduler.schedule(() -> dispatch(job), delay, MILLISECONDS);
+    }
+
+    /**
+     * Method to shut down the pool when the backend is stopped
+     */
+    @PreDestroy
+    public void shutdown() {
+        retriesScheduler.shutdownNow();
+        conversionsExecutor.shutdown();
+    }
+
+}
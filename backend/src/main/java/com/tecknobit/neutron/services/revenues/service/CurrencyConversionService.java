@@ -0,0 +1,263 @@
+package com.tecknobit.neutron.services.revenues.service;
+
+import com.tecknobit.neutron.services.cache.UserResultsCache;
+import com.tecknobit.neutron.services.revenues.entities.CurrencyConversionRun;
+import com.tecknobit.neutron.services.revenues.entities.CurrencyConversionRun.CurrencyConversionRunId;
+import com.tecknobit.neutron.services.revenues.jobs.CurrencyConversionJob;
+import com.tecknobit.neutron.services.revenues.rates.ExchangeRatesCache;
+import com.tecknobit.neutron.services.revenues.rates.ExchangeRatesSnapshot;
+import com.tecknobit.neutron.services.revenues.repositories.CurrencyConversionRunsRepository;
+import com.tecknobit.neutron.services.revenues.repositories.RevenuesRepository;
+import com.tecknobit.neutron.services.users.repository.NeutronUsersRepository;
+import com.tecknobit.neutroncore.enums.NeutronCurrency;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.tecknobit.neutron.services.revenues.entities.CurrencyConversionRun.ConversionPhase.GENERAL_REVENUES;
+import static com.tecknobit.neutron.services.revenues.entities.CurrencyConversionRun.ConversionPhase.ROLLUPS;
+
+/**
+ * The {@code CurrencyConversionService} class is useful to convert the revenues of a user in a new currency with a
+ * persisted {@link CurrencyConversionRun}. The rows are converted in chunks ordered by their identifier, each chunk
+ * in its own transaction which also advances the checkpoint of the run, so a conversion interrupted by a restart of
+ * the backend is resumed from the last chunk committed without rescanning or converting a row twice
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @see CurrencyConversionExecutor
+ *
+ * @since 1.0.5
+ */
+@Service
+public class CurrencyConversionService {
+
+    /**
+     * {@code revenuesRepository} instance for the revenues repository
+     */
+    private final RevenuesRepository revenuesRepository;
+
+    /**
+     * {@code runsRepository} instance for the currency conversion runs repository
+     */
+    private final CurrencyConversionRunsRepository runsRepository;
+
+    /**
+     * {@code usersRepository} instance for the users repository
+     */
+    private final NeutronUsersRepository usersRepository;
+
+    /**
+     * {@code rollupsService} helper to maintain the revenue rollups
+     */
+    private final RevenueRollupsService rollupsService;
+
+    /**
+     * {@code resultsCache} the cache of the results computed for the users
+     */
+    private final UserResultsCache resultsCache;
+
+    /**
+     * {@code exchangeRates} the cache of the exchange rates used to start the runs
+     */
+    private final ExchangeRatesCache exchangeRates;
+
+    /**
+     * {@code chunkTransaction} the template used to execute each chunk in its own transaction
+     */
+    private final TransactionTemplate chunkTransaction;
+
+    /**
+     * {@code chunkSize} the max number of the rows converted by each chunk
+     */
+    private final int chunkSize;
+
+    /**
+     * {@code convertingUsers} the identifiers of the users who have a pending run, kept in memory so checking whether
+     * the revenues of a user are being converted does not query the runs at each request
+     */
+    private final Set<String> convertingUsers;
+
+    /**
+     * Constructor to init the service
+     *
+     * @param revenuesRepository The instance for the revenues repository
+     * @param runsRepository The instance for the currency conversion runs repository
+     * @param usersRepository The instance for the users repository
+     * @param rollupsService The helper to maintain the revenue rollups
+     * @param resultsCache The cache of the results computed for the users
+     * @param exchangeRates The cache of the exchange rates used to start the runs
+     * @param transactionManager The manager of the transactions
+     * @param chunkSize The max number of the rows converted by each chunk
+     */
+    @Autowired
+    public CurrencyConversionService(RevenuesRepository revenuesRepository,
+                                     CurrencyConversionRunsRepository runsRepository,
+                                     NeutronUsersRepository usersRepository, RevenueRollupsService rollupsService,
+                                     UserResultsCache resultsCache, ExchangeRatesCache exchangeRates,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${neutron.conversions.chunk-size:1000}") int chunkSize) {
+        this.revenuesRepository = revenuesRepository;
+        this.runsRepository = runsRepository;
+        this.usersRepository = usersRepository;
+        this.rollupsService = rollupsService;
+        this.resultsCache = resultsCache;
+        this.exchangeRates = exchangeRates;
+        chunkTransaction = new TransactionTemplate(transactionManager);
+        convertingUsers = ConcurrentHashMap.newKeySet();
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Method to get whether the revenues of a user are being converted, while a run is pending the revenues are stored
+     * partly in the previous currency, so their amounts cannot be read or written
+     *
+     * @param userId The identifier of the user
+     *
+     * @return whether the revenues of the user are being converted as boolean
+     */
+    public boolean isConverting(String userId) {
+        return convertingUsers.contains(userId);
+    }
+
+    /**
+     * Method to load the users who have a pending run, executed before the backend starts to serve the requests so
+     * the runs interrupted by its last stop are tracked until they are resumed and completed
+     */
+    @PostConstruct
+    public void loadConvertingUsers() {
+        for (CurrencyConversionRun run : runsRepository.getPendingRuns())
+            convertingUsers.add(run.getId().getOwner());
+    }
+
+    /**
+     * Method to get the runs interrupted by the last stop of the backend
+     *
+     * @return the pending runs as {@link List} of {@link CurrencyConversionRun}
+     */
+    public List<CurrencyConversionRun> getPendingRuns() {
+        return runsRepository.getPendingRuns();
+    }
+
+    /**
+     * Method to convert the revenues of a user in the target currency of a job. When the user has a pending run it is
+     * resumed first, then, if the job targets a different currency, a new run is started from the currency reached
+     *
+     * @param job The job which tracks the progress of the conversion
+     */
+    public void convert(CurrencyConversionJob job) {
+        String userId = job.getUserId();
+        NeutronCurrency fromCurrency = job.getFromCurrency();
+        CurrencyConversionRun pendingRun = runsRepository.getUserRun(userId);
+        if(pendingRun != null) {
+            executeRun(pendingRun, job);
+            fromCurrency = pendingRun.getTargetCurrency();
+        }
+        NeutronCurrency targetCurrency = job.getTargetCurrency();
+        if(fromCurrency != targetCurrency)
+            executeRun(startRun(userId, fromCurrency, targetCurrency), job);
+    }
+
+    /**
+     * Method to persist a new run, the conversion factor is taken from the current snapshot of the exchange rates and
+     * stored with the run, so a resumed run keeps converting with the same rate
+     *
+     * @param userId The identifier of the user
+     * @param fromCurrency The currency from which the revenues are converted
+     * @param targetCurrency The currency in which the revenues are converted
+     *
+     * @return the run started as {@link CurrencyConversionRun}
+     */
+    private CurrencyConversionRun startRun(String userId, NeutronCurrency fromCurrency,
+                                           NeutronCurrency targetCurrency) {
+        ExchangeRatesSnapshot snapshot = exchangeRates.getSnapshot();
+        CurrencyConversionRunId runId = new CurrencyConversionRunId(userId, snapshot.getFetchTimestamp());
+        CurrencyConversionRun run = runsRepository.save(new CurrencyConversionRun(runId, fromCurrency, targetCurrency,
+                snapshot.getConversionFactor(fromCurrency, targetCurrency),
+                revenuesRepository.countConvertibleRows(userId)));
+        convertingUsers.add(userId);
+        return run;
+    }
+
+    /**
+     * Method to execute a run from its checkpoint until its completion, the user stops being tracked as converting and
+     * its cached results are invalidated only when the run is completed because the amounts cannot be read while the
+     * run is pending
+     *
+     * @param run The run to execute
+     * @param job The job which tracks the progress of the conversion
+     */
+    private void executeRun(CurrencyConversionRun run, CurrencyConversionJob job) {
+        CurrencyConversionRunId runId = run.getId();
+        String userId = runId.getOwner();
+        job.advance(run.getConvertedRows(), run.getTotalRows());
+        while(run != null && run.getPhase() != ROLLUPS) {
+            run = chunkTransaction.execute(status -> convertChunk(runId));
+            if(run != null)
+                job.advance(run.getConvertedRows(), run.getTotalRows());
+        }
+        chunkTransaction.executeWithoutResult(status -> completeRun(runId));
+        convertingUsers.remove(userId);
+        resultsCache.invalidate(userId);
+    }
+
+    /**
+     * Method to convert the next chunk of a run and to advance its checkpoint in the same transaction, when the rows
+     * of the current phase are all converted the run is moved to the next phase
+     *
+     * @param runId The identifier of the run
+     *
+     * @return the run updated as {@link CurrencyConversionRun}, {@code null} if the run has been already completed
+     */
+    private CurrencyConversionRun convertChunk(CurrencyConversionRunId runId) {
+        String owner = runId.getOwner();
+        long ratesSnapshot = runId.getRatesSnapshot();
+        CurrencyConversionRun run = runsRepository.lockRun(owner, ratesSnapshot);
+        if(run == null || run.getPhase() == ROLLUPS)
+            return run;
+        String checkpoint = run.getCheckpoint();
+        boolean generalRevenuesPhase = run.getPhase() == GENERAL_REVENUES;
+        String chunkEnd;
+        if(generalRevenuesPhase)
+            chunkEnd = revenuesRepository.getGeneralRevenuesChunkEnd(owner, checkpoint, chunkSize);
+        else
+            chunkEnd = revenuesRepository.getInitialRevenuesChunkEnd(owner, checkpoint, chunkSize);
+        if(chunkEnd == null)
+            runsRepository.moveRunToPhase(owner, ratesSnapshot, run.getPhase().next().name());
+        else {
+            double factor = run.getConversionFactor();
+            int convertedRows;
+            if(generalRevenuesPhase)
+                convertedRows = revenuesRepository.convertGeneralRevenuesChunk(owner, checkpoint, chunkEnd, factor);
+            else
+                convertedRows = revenuesRepository.convertInitialRevenuesChunk(owner, checkpoint, chunkEnd, factor);
+            runsRepository.advanceRun(owner, ratesSnapshot, chunkEnd, run.getConvertedRows() + convertedRows);
+        }
+        return runsRepository.lockRun(owner, ratesSnapshot);
+    }
+
+    /**
+     * Method to complete a run: the rollups are regenerated from the converted revenues, the user is marked as
+     * having its revenues stored in the target currency and the run is deleted, all in the same transaction
+     *
+     * @param runId The identifier of the run
+     */
+    private void completeRun(CurrencyConversionRunId runId) {
+        String owner = runId.getOwner();
+        long ratesSnapshot = runId.getRatesSnapshot();
+        CurrencyConversionRun run = runsRepository.lockRun(owner, ratesSnapshot);
+        if(run == null)
+            return;
+        rollupsService.rebuildRollups(owner);
+        usersRepository.changeRevenuesCurrency(run.getTargetCurrency().name(), owner);
+        runsRepository.deleteRun(owner, ratesSnapshot);
+    }
+
+}
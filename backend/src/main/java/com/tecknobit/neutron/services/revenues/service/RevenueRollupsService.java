@@ -0,0 +1,134 @@
+package com.tecknobit.neutron.services.revenues.service;
+
+import com.tecknobit.neutron.services.revenues.entities.RevenueRollup;
+import com.tecknobit.neutron.services.revenues.repositories.RevenueRollupsRepository;
+import jakarta.transaction.Transactional;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeSet;
+
+import static com.tecknobit.neutron.services.revenues.entities.RevenueRollup.DAY_MILLIS;
+import static com.tecknobit.neutron.services.revenues.entities.RevenueRollup.toDay;
+
+/**
+ * The {@code RevenueRollupsService} class is useful to maintain the {@link RevenueRollup} buckets of the users. The
+ * buckets touched by a write are regenerated from the revenues tables, so the maintenance joins the transaction of
+ * the write and the buckets always match the base data
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+@Service
+public class RevenueRollupsService {
+
+    /**
+     * {@code REBUILD_DAYS_CHUNK} the max number of days regenerated with a single query during a rebuild
+     */
+    private static final int REBUILD_DAYS_CHUNK = 500;
+
+    /**
+     * {@code rollupsRepository} instance for the revenue rollups repository
+     */
+    private final RevenueRollupsRepository rollupsRepository;
+
+    /**
+     * Constructor to init the service
+     *
+     * @param rollupsRepository The instance for the revenue rollups repository
+     */
+    @Autowired
+    public RevenueRollupsService(RevenueRollupsRepository rollupsRepository) {
+        this.rollupsRepository = rollupsRepository;
+    }
+
+    /**
+     * Method to regenerate the buckets of the days touched by a write
+     *
+     * @param userId The identifier of the owner of the revenues
+     * @param dates The dates touched by the write, each one is bucketed in its day
+     */
+    @Transactional
+    public void refreshRollups(String userId, long... dates) {
+        TreeSet<Long> days = new TreeSet<>();
+        for (long date : dates)
+            days.add(toDay(date));
+        refreshDays(userId, days);
+    }
+
+    /**
+     * Method to regenerate from the revenues tables all the buckets of a user, also the materialized balance and
+     * tickets counters of the projects of the user are regenerated
+     *
+     * @param userId The identifier of the owner of the revenues
+     */
+    @Transactional
+    public void rebuildRollups(String userId) {
+        rollupsRepository.refreshProjectsCounters(userId);
+        rollupsRepository.deleteAllRollups(userId);
+        List<Long> days = rollupsRepository.getRevenueDays(userId);
+        for (int j = 0; j < days.size(); j += REBUILD_DAYS_CHUNK) {
+            List<Long> chunk = days.subList(j, Math.min(j + REBUILD_DAYS_CHUNK, days.size()));
+            insertDays(userId, new TreeSet<>(chunk));
+        }
+    }
+
+    /**
+     * Method to regenerate from the revenues tables all the buckets of all the users
+     */
+    public void rebuildAllRollups() {
+        for (String userId : rollupsRepository.getOwners())
+            rebuildRollups(userId);
+    }
+
+    /**
+     * Method to count the general revenues and the projects of a user from the counters of the buckets, the revenues
+     * are counted from the start of the day of the specified date
+     *
+     * @param userId The identifier of the owner of the revenues
+     * @param fromDate The date from which count the revenues
+     * @param retrieveGeneralRevenues Whether count the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
+     * @param retrieveProjectRevenues Whether count the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
+     * @param label The text of the label used to filter the general revenues, {@link RevenueRollup#NO_LABEL} to not
+     *              filter them
+     *
+     * @return the count of the revenues as long
+     */
+    public long countRevenues(String userId, long fromDate, boolean retrieveGeneralRevenues,
+                              boolean retrieveProjectRevenues, String label) {
+        return rollupsRepository.countRevenues(userId, toDay(fromDate), retrieveGeneralRevenues,
+                retrieveProjectRevenues, label);
+    }
+
+    /**
+     * Method to delete and then regenerate the buckets of the specified days
+     *
+     * @param userId The identifier of the owner of the revenues
+     * @param days The days to regenerate
+     */
+    private void refreshDays(String userId, TreeSet<Long> days) {
+        if(days.isEmpty())
+            return;
+        rollupsRepository.deleteRollups(userId, new ArrayList<>(days));
+        insertDays(userId, days);
+    }
+
+    /**
+     * Method to insert the buckets of the specified days summing the revenues tables
+     *
+     * @param userId The identifier of the owner of the revenues
+     * @param days The days to insert
+     */
+    private void insertDays(String userId, TreeSet<Long> days) {
+        rollupsRepository.insertRollups(
+                userId,
+                new ArrayList<>(days),
+                days.first() * DAY_MILLIS,
+                (days.last() + 1) * DAY_MILLIS
+        );
+    }
+
+}
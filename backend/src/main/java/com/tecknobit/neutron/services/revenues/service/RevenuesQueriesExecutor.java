@@ -0,0 +1,122 @@
+package com.tecknobit.neutron.services.revenues.service;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * The {@code RevenuesQueriesExecutor} class is useful to execute the independent read queries of the revenues. When
+ * the {@code neutron.revenues.parallel-queries} property is enabled the queries are issued concurrently on a bounded
+ * pool, each one in its own read-only transaction and so with its own connection, otherwise they are executed
+ * sequentially by the calling thread
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+@Service
+public class RevenuesQueriesExecutor {
+
+    /**
+     * {@code QUERIES_THREAD_NAME} the prefix of the name of the threads which execute the queries
+     */
+    private static final String QUERIES_THREAD_NAME = "revenues-queries-";
+
+    /**
+     * {@code parallelQueries} whether the queries are executed concurrently
+     */
+    private final boolean parallelQueries;
+
+    /**
+     * {@code readOnlyTransaction} the template used to execute each query in its own read-only transaction
+     */
+    private final TransactionTemplate readOnlyTransaction;
+
+    /**
+     * {@code queriesExecutor} the bounded pool which executes the queries, {@code null} when the queries are executed
+     * sequentially
+     */
+    private final ThreadPoolExecutor queriesExecutor;
+
+    /**
+     * Constructor to init the executor
+     *
+     * @param transactionManager The manager of the transactions
+     * @param parallelQueries Whether the queries are executed concurrently
+     * @param queriesThreads The max number of queries executed concurrently
+     * @param queuedQueries The max number of queries waiting to be executed, when the queue is full the query is
+     *                      executed by the calling thread
+     */
+    @Autowired
+    public RevenuesQueriesExecutor(PlatformTransactionManager transactionManager,
+                                   @Value("${neutron.revenues.parallel-queries:false}") boolean parallelQueries,
+                                   @Value("${neutron.revenues.queries-threads:8}") int queriesThreads,
+                                   @Value("${neutron.revenues.queued-queries:64}") int queuedQueries) {
+        this.parallelQueries = parallelQueries;
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        if(parallelQueries) {
+            AtomicInteger threadsCounter = new AtomicInteger();
+            queriesExecutor = new ThreadPoolExecutor(queriesThreads, queriesThreads, 60L, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queuedQueries), runnable -> {
+                        Thread thread = new Thread(runnable, QUERIES_THREAD_NAME + threadsCounter.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    }, new ThreadPoolExecutor.CallerRunsPolicy());
+            queriesExecutor.allowCoreThreadTimeOut(true);
+        } else
+            queriesExecutor = null;
+    }
+
+    /**
+     * Method to submit a read query
+     *
+     * @param query The query to execute
+     *
+     * @return the pending result of the query as {@link CompletableFuture} of {@link T}, already completed when the
+     * queries are executed sequentially
+     *
+     * @param <T> The type of the result of the query
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> query) {
+        if(!parallelQueries)
+            return CompletableFuture.completedFuture(query.get());
+        return CompletableFuture.supplyAsync(() -> readOnlyTransaction.execute(status -> query.get()), queriesExecutor);
+    }
+
+    /**
+     * Method to wait the result of a query submitted with {@link #submit(Supplier)}
+     *
+     * @param result The pending result of the query
+     *
+     * @return the result of the query as {@link T}
+     *
+     * @param <T> The type of the result of the query
+     */
+    public <T> T join(CompletableFuture<T> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if(e.getCause() instanceof RuntimeException cause)
+                throw cause;
+            throw e;
+        }
+    }
+
+    /**
+     * Method to shut down the pool when the backend is stopped
+     */
+    @PreDestroy
+    public void shutdown() {
+        if(queriesExecutor != null)
+            queriesExecutor.shutdown();
+    }
+
+}
@@ -1,40 +1,51 @@
 package com.tecknobit.neutron.services.revenues.service;
 
-import com.tecknobit.apimanager.apis.APIRequest;
-import com.tecknobit.apimanager.formatters.JsonHelper;
 import com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper;
 import com.tecknobit.equinoxcore.annotations.Wrapper;
 import com.tecknobit.equinoxcore.pagination.PaginatedResponse;
+import com.tecknobit.neutron.services.cache.UserResultsCache;
 import com.tecknobit.neutron.services.revenues.batch.LabelsBatchQuery;
 import com.tecknobit.neutron.services.revenues.batch.RevenueLabelItem;
 import com.tecknobit.neutron.services.revenues.batch.RevenueLabelsBatchQuery;
+import com.tecknobit.neutron.services.revenues.batch.TicketEditItem;
+import com.tecknobit.neutron.services.revenues.batch.TicketsEditBatchQuery;
+import com.tecknobit.neutron.services.revenues.dtos.ProjectTicketsStats;
+import com.tecknobit.neutron.services.revenues.dtos.ProjectTicketsValue;
+import com.tecknobit.neutron.services.revenues.dtos.RevenueFeedItem;
+import com.tecknobit.neutron.services.revenues.dtos.RevenuesCursor;
 import com.tecknobit.neutron.services.revenues.entities.*;
 import com.tecknobit.neutron.services.revenues.repositories.RevenueLabelsRepository;
 import com.tecknobit.neutron.services.revenues.repositories.RevenuesRepository;
-import com.tecknobit.neutroncore.enums.NeutronCurrency;
+import com.tecknobit.neutroncore.dtos.CursorPaginatedResponse;
+import com.tecknobit.neutroncore.dtos.ProjectStats;
+import com.tecknobit.neutroncore.dtos.ProjectTicketSummary;
 import com.tecknobit.neutroncore.enums.RevenuePeriod;
-import org.json.JSONObject;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
-import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.trading.TradingTools.roundValue;
 import static com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper.InsertCommand.INSERT_IGNORE_INTO;
 import static com.tecknobit.equinoxbackend.apis.batch.EquinoxItemsHelper.InsertCommand.INSERT_INTO;
 import static com.tecknobit.equinoxbackend.environment.services.builtin.controller.EquinoxController.generateIdentifier;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
 import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.DEFAULT_PAGE;
+import static com.tecknobit.neutron.services.cache.UserResultsCache.resultKey;
+import static com.tecknobit.neutron.services.revenues.dtos.RevenueFeedItem.PROJECT_FEED_KIND;
+import static com.tecknobit.neutron.services.revenues.dtos.RevenuesCursor.FIRST_PAGE;
+import static com.tecknobit.neutron.services.revenues.entities.RevenueRollup.DAY_MILLIS;
+import static com.tecknobit.neutron.services.revenues.entities.RevenueRollup.NO_LABEL;
+import static com.tecknobit.neutron.services.revenues.entities.RevenueRollup.toDay;
+import static com.tecknobit.neutron.services.revenues.service.RevenuesService.CountStrategy.COUNTERS;
+import static com.tecknobit.neutron.services.revenues.service.RevenuesService.CountStrategy.HAS_MORE;
 import static com.tecknobit.neutroncore.ContantsKt.*;
-import static com.tecknobit.neutroncore.enums.NeutronCurrency.DOLLAR;
 import static com.tecknobit.neutroncore.enums.RevenuePeriod.ALL;
-import static java.lang.Integer.MAX_VALUE;
-import static java.util.concurrent.TimeUnit.DAYS;
-import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 /**
  * The {@code RevenuesService} class is useful to manage all the revenues database operations
@@ -47,19 +58,38 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 public class RevenuesService extends EquinoxItemsHelper {
 
     /**
-     * {@code EXCHANGE_RATES_ENDPOINT} the endpoint to get the new fiat tax change
+     * {@code MAX_TICKETS_BATCH_SIZE} the max number of tickets which can be handled by a single batch operation
      */
-    private static final String EXCHANGE_RATES_ENDPOINT = "https://open.er-api.com/v6/latest/USD";
+    public static final int MAX_TICKETS_BATCH_SIZE = 1000;
 
     /**
-     * {@code currencyRates} all the fiat tax change
+     * {@code LARGEST_TICKETS_NUMBER} the number of the largest tickets shared with the statistics of a project
      */
-    private static final HashMap<NeutronCurrency, Double> currencyRates = new HashMap<>();
+    public static final int LARGEST_TICKETS_NUMBER = 5;
 
     /**
-     * {@code previousRefreshTimestamp} the previous time when the {@link #currencyRates} have been refreshed
+     * {@code CountStrategy} list of the strategies available to compute the total of the paginated lists
      */
-    private static long previousRefreshTimestamp = 0L;
+    public enum CountStrategy {
+
+        /**
+         * {@code EXACT} the total is counted exactly and cached until the next write of the user
+         */
+        EXACT,
+
+        /**
+         * {@code COUNTERS} the total is read from the maintained counters when available, otherwise the
+         * {@link #EXACT} strategy is used
+         */
+        COUNTERS,
+
+        /**
+         * {@code HAS_MORE} the total is not counted, one more item is fetched to know whether a next page is
+         * available and the total reports just the items reached so far
+         */
+        HAS_MORE
+
+    }
 
     /**
      * {@code revenuesRepository} instance for the revenues repository
@@ -71,16 +101,53 @@ public class RevenuesService extends EquinoxItemsHelper {
      */
     private final RevenueLabelsRepository labelsRepository;
 
+    /**
+     * {@code rollupsService} helper to maintain the revenue rollups
+     */
+    private final RevenueRollupsService rollupsService;
+
+    /**
+     * {@code resultsCache} the cache of the results computed for the users
+     */
+    private final UserResultsCache resultsCache;
+
+    /**
+     * {@code queriesExecutor} the executor of the independent read queries of the revenues
+     */
+    private final RevenuesQueriesExecutor queriesExecutor;
+
+    /**
+     * {@code countStrategy} the strategy used to compute the total of the paginated lists
+     */
+    private final CountStrategy countStrategy;
+
+    /**
+     * {@code entityManager} the entity manager used to execute the set-based batch statements
+     */
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * Constructor to init the service
      *
      * @param revenuesRepository The instance for the revenues repository
      * @param labelsRepository The instance for the revenue labels repository
+     * @param rollupsService The helper to maintain the revenue rollups
+     * @param resultsCache The cache of the results computed for the users
+     * @param queriesExecutor The executor of the independent read queries of the revenues
+     * @param countStrategy The strategy used to compute the total of the paginated lists
      */
     @Autowired
-    public RevenuesService(RevenuesRepository revenuesRepository, RevenueLabelsRepository labelsRepository) {
+    public RevenuesService(RevenuesRepository revenuesRepository, RevenueLabelsRepository labelsRepository,
+                           RevenueRollupsService rollupsService, UserResultsCache resultsCache,
+                           RevenuesQueriesExecutor queriesExecutor,
+                           @Value("${neutron.revenues.count-strategy:EXACT}") CountStrategy countStrategy) {
         this.revenuesRepository = revenuesRepository;
         this.labelsRepository = labelsRepository;
+        this.rollupsService = rollupsService;
+        this.resultsCache = resultsCache;
+        this.queriesExecutor = queriesExecutor;
+        this.countStrategy = countStrategy;
     }
 
     /**
@@ -122,17 +189,27 @@ public class RevenuesService extends EquinoxItemsHelper {
      * @param labels The labels used to filter the data
      *
      * @return the revenues getRevenues as {@link PaginatedResponse} of {@link Revenue}
+     *
+     * @apiNote the first page is served from the {@link UserResultsCache} when available
      */
     @Wrapper
     public PaginatedResponse<Revenue> getRevenues(String userId, int page, int pageSize, RevenuePeriod period,
                                                   boolean retrieveGeneralRevenues, boolean retrieveProjectRevenues,
                                                   List<String> labels) {
-        return getRevenues(userId, page, pageSize, period, 1, retrieveGeneralRevenues, retrieveProjectRevenues,
-                labels);
+        if(page != DEFAULT_PAGE) {
+            return getRevenues(userId, page, pageSize, period, 1, retrieveGeneralRevenues, retrieveProjectRevenues,
+                    labels);
+        }
+        return resultsCache.getResult(userId, resultKey("revenues", pageSize, calculatePeriodStart(period, 1),
+                retrieveGeneralRevenues, retrieveProjectRevenues, labels), () -> getRevenues(userId, page, pageSize,
+                period, 1, retrieveGeneralRevenues, retrieveProjectRevenues, labels));
     }
 
     /**
-     * Method to get the revenues of a user
+     * Method to get the revenues of a user, the general revenues and the projects are paged as a single feed ordered
+     * by date, so the page contains at most {@code pageSize} revenues and just them are loaded. The total of the
+     * revenues is computed following the {@link #countStrategy}, the page of the feed and the count of the revenues are
+     * independent queries and are issued through the {@link RevenuesQueriesExecutor}
      *
      * @param userId The user identifier
      * @param page      The page requested
@@ -149,45 +226,203 @@ public class RevenuesService extends EquinoxItemsHelper {
     public PaginatedResponse<Revenue> getRevenues(String userId, int page, int pageSize, RevenuePeriod period,
                                                   int offset, boolean retrieveGeneralRevenues,
                                                   boolean retrieveProjectRevenues, List<String> labels) {
-        List<Revenue> revenues = new ArrayList<>();
-        Pageable pageable = PageRequest.of(page, pageSize);
-        long fromDate = period.calculateFromDate(period, offset);
-        long revenuesCount = 0;
-        long projectsCount = 0;
-        if(retrieveGeneralRevenues) {
-            List<GeneralRevenue> generalRevenues = revenuesRepository.getGeneralRevenues(userId, fromDate, labels,
-                    pageable);
-            revenues.addAll(generalRevenues);
-            revenuesCount = revenuesRepository.countGeneralRevenues(userId, fromDate, labels);
+        long fromDate = calculatePeriodStart(period, offset);
+        int fetchSize = countStrategy == HAS_MORE ? pageSize + 1 : pageSize;
+        long feedOffset = (long) page * pageSize;
+        CompletableFuture<List<RevenueFeedItem>> feed = queriesExecutor.submit(() ->
+                revenuesRepository.getRevenuesFeed(userId, fromDate, retrieveGeneralRevenues, retrieveProjectRevenues,
+                        labels, FIRST_PAGE.getRevenueDate(), FIRST_PAGE.getRevenueId(), fetchSize, feedOffset,
+                        feedOffset + fetchSize));
+        CompletableFuture<Long> revenuesCount = null;
+        if(countStrategy != HAS_MORE) {
+            revenuesCount = queriesExecutor.submit(() -> countRevenues(userId, fromDate, retrieveGeneralRevenues,
+                    retrieveProjectRevenues, labels));
         }
-        if(retrieveProjectRevenues) {
-            List<ProjectRevenue> projectRevenues = revenuesRepository.getProjectRevenues(userId, fromDate, pageable);
-            pruneTicketsOutsidePeriod(projectRevenues, fromDate);
-            revenues.addAll(projectRevenues);
-            projectsCount = revenuesRepository.countProjectRevenues(userId, fromDate);
-        }
-        revenues.sort((o1, o2) -> Long.compare(o2.getRevenueTimestamp(), o1.getRevenueTimestamp()));
+        List<RevenueFeedItem> feedItems = queriesExecutor.join(feed);
+        long totalRevenues;
+        if(countStrategy == HAS_MORE) {
+            totalRevenues = (long) page * pageSize + feedItems.size();
+            if(feedItems.size() > pageSize)
+                feedItems = feedItems.subList(0, pageSize);
+        } else
+            totalRevenues = queriesExecutor.join(revenuesCount);
+        List<Revenue> revenues = loadFeedRevenues(feedItems, fromDate);
         return new PaginatedResponse<>(
                 revenues,
                 page,
                 pageSize,
-                revenuesCount + projectsCount
+                totalRevenues
         );
     }
 
     /**
-     * Method used to remove from the project revenues the tickets which have been closed before
-     * the specified date and make the same with the {@link InitialRevenue} related to the project
+     * Method to count the revenues of a user following the {@link #countStrategy}. With the
+     * {@link CountStrategy#COUNTERS} strategy the revenues are counted from the
+     * {@link com.tecknobit.neutron.services.revenues.entities.RevenueRollup} counters when the labels filter can be
+     * answered by them, otherwise the exact count is computed and cached until the next write of the user. The period
+     * starts at the beginning of a day, as the day buckets of the counters, so both the strategies count the same
+     * revenues listed by the feed, and the start of the period is part of the key of the cached count
+     *
+     * @param userId The user identifier
+     * @param fromDate The start of the period from count the revenues, as returned by
+     *                 {@link #calculatePeriodStart(RevenuePeriod, int)}
+     * @param retrieveGeneralRevenues Whether count the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
+     * @param retrieveProjectRevenues Whether count the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
+     * @param labels The labels used to filter the data
+     *
+     * @return the count of the revenues as long
+     */
+    private long countRevenues(String userId, long fromDate, boolean retrieveGeneralRevenues,
+                               boolean retrieveProjectRevenues, List<String> labels) {
+        if(countStrategy == COUNTERS && (labels == null || labels.size() <= 1)) {
+            String label = labels == null || labels.isEmpty() ? NO_LABEL : labels.get(0);
+            return rollupsService.countRevenues(userId, fromDate, retrieveGeneralRevenues, retrieveProjectRevenues,
+                    label);
+        }
+        return resultsCache.getResult(userId, resultKey("revenues_count", fromDate, retrieveGeneralRevenues,
+                retrieveProjectRevenues, labels), () -> revenuesRepository.countRevenues(userId, fromDate,
+                retrieveGeneralRevenues, retrieveProjectRevenues, labels));
+    }
+
+    /**
+     * Method to calculate the start of a period used by the paginated lists, the start is moved back to the beginning
+     * of its day so the lists select the same revenues counted by the day buckets of the {@link RevenueRollup}
+     * counters and the same start is computed for the whole day
+     *
+     * @param period The period to use to select the revenues
+     * @param offset The offset to apply to the period
      *
-     * @param projectRevenues The complete project revenues from drop out of temporal period tickets
-     * @param date The specified date used as filter to remove those tickets which have been closed before
+     * @return the start of the period as long
+     */
+    private long calculatePeriodStart(RevenuePeriod period, int offset) {
+        return toDay(period.calculateFromDate(period, offset)) * DAY_MILLIS;
+    }
+
+    /**
+     * Method to get the revenues of a user with the keyset pagination, each page is fetched seeking the revenues
+     * which follow the cursor, so its cost does not depend on how deep the page is. The general revenues and the
+     * projects are paged as a single feed ordered by date, one more item is read to know whether a next page is
+     * available but just the revenues of the page are loaded
+     *
+     * @param userId The user identifier
+     * @param cursor The cursor of the page requested, {@link RevenuesCursor#FIRST_PAGE_CURSOR} for the first page
+     * @param pageSize  The size of the items to insert in the page
+     * @param period The period to use to select the revenues
+     * @param retrieveGeneralRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
+     * @param retrieveProjectRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
+     * @param labels The labels used to filter the data
+     *
+     * @return the revenues as {@link CursorPaginatedResponse} of {@link Revenue}
+     *
+     * @throws IllegalArgumentException when the cursor is not valid
+     */
+    public CursorPaginatedResponse<Revenue> getRevenues(String userId, String cursor, int pageSize,
+                                                        RevenuePeriod period, boolean retrieveGeneralRevenues,
+                                                        boolean retrieveProjectRevenues, List<String> labels) {
+        RevenuesCursor revenuesCursor = RevenuesCursor.decode(cursor);
+        long fromDate = calculatePeriodStart(period, 1);
+        List<RevenueFeedItem> feed = revenuesRepository.getRevenuesFeed(userId, fromDate, retrieveGeneralRevenues,
+                retrieveProjectRevenues, labels, revenuesCursor.getRevenueDate(), revenuesCursor.getRevenueId(),
+                pageSize + 1, 0, pageSize + 1);
+        boolean hasNextPage = feed.size() > pageSize;
+        if(hasNextPage)
+            feed = feed.subList(0, pageSize);
+        List<Revenue> revenues = loadFeedRevenues(feed, fromDate);
+        String nextCursor = null;
+        if(hasNextPage && !revenues.isEmpty())
+            nextCursor = new RevenuesCursor(revenues.get(revenues.size() - 1)).encode();
+        return new CursorPaginatedResponse<>(revenues, pageSize, nextCursor);
+    }
+
+    /**
+     * Method to load the revenues of a page of the feed keeping the order of the feed, the general revenues and the
+     * projects are loaded by identifier through the {@link RevenuesQueriesExecutor}
+     *
+     * @param feed The items of the page of the feed
+     * @param fromDate The date used to select the revenues
+     *
+     * @return the revenues of the page as {@link List} of {@link Revenue}
+     */
+    private List<Revenue> loadFeedRevenues(List<RevenueFeedItem> feed, long fromDate) {
+        List<String> generalRevenuesIds = new ArrayList<>();
+        List<String> projectRevenuesIds = new ArrayList<>();
+        for (RevenueFeedItem item : feed) {
+            if(PROJECT_FEED_KIND.equals(item.getKind()))
+                projectRevenuesIds.add(item.getId());
+            else
+                generalRevenuesIds.add(item.getId());
+        }
+        CompletableFuture<List<GeneralRevenue>> generalRevenues = null;
+        CompletableFuture<List<ProjectRevenue>> projectRevenues = null;
+        if(!generalRevenuesIds.isEmpty()) {
+            generalRevenues = queriesExecutor.submit(() ->
+                    revenuesRepository.getGeneralRevenuesByIds(generalRevenuesIds));
+        }
+        if(!projectRevenuesIds.isEmpty()) {
+            projectRevenues = queriesExecutor.submit(() ->
+                    revenuesRepository.getProjectRevenuesByIds(projectRevenuesIds));
+        }
+        HashMap<String, Revenue> revenuesLoaded = new HashMap<>();
+        if(generalRevenues != null)
+            for (GeneralRevenue generalRevenue : queriesExecutor.join(generalRevenues))
+                revenuesLoaded.put(generalRevenue.getId(), generalRevenue);
+        if(projectRevenues != null) {
+            List<ProjectRevenue> projects = queriesExecutor.join(projectRevenues);
+            computeProjectsValueInPeriod(projects, fromDate);
+            for (ProjectRevenue projectRevenue : projects)
+                revenuesLoaded.put(projectRevenue.getId(), projectRevenue);
+        }
+        List<Revenue> revenues = new ArrayList<>(feed.size());
+        for (RevenueFeedItem item : feed) {
+            Revenue revenue = revenuesLoaded.get(item.getId());
+            if(revenue != null)
+                revenues.add(revenue);
+        }
+        return revenues;
+    }
+
+    /**
+     * Method to assemble a page of the keyset pagination
+     *
+     * @param items The items fetched, ordered by date and identifier, more than the page size when a next page is
+     *              available
+     * @param pageSize The size of the items to insert in the page
+     *
+     * @return the page as {@link CursorPaginatedResponse} of {@link T}
+     *
+     * @param <T> The type of the items of the page
+     */
+    private <T extends Revenue> CursorPaginatedResponse<T> assembleCursorPage(List<T> items, int pageSize) {
+        if(items.size() <= pageSize)
+            return new CursorPaginatedResponse<>(items, pageSize, null);
+        List<T> page = new ArrayList<>(items.subList(0, pageSize));
+        String nextCursor = new RevenuesCursor(page.get(pageSize - 1)).encode();
+        return new CursorPaginatedResponse<>(page, pageSize, nextCursor);
+    }
+
+    /**
+     * Method used to compute the value of the project revenues in a period, excluding the tickets which have been
+     * closed before the specified date and making the same with the {@link InitialRevenue} related to the project.
+     * Without a period the value of the projects is read from their materialized counters, otherwise the tickets of
+     * the projects are filtered and summed by a single query, so no ticket is loaded
+     *
+     * @param projectRevenues The project revenues to compute their value in the period
+     * @param date The specified date used as filter to exclude those tickets which have been closed before
      *
      * @since 1.0.4
      */
-    private void pruneTicketsOutsidePeriod(List<ProjectRevenue> projectRevenues, long date) {
+    private void computeProjectsValueInPeriod(List<ProjectRevenue> projectRevenues, long date) {
+        if(date <= 0)
+            return;
+        List<String> projectsIds = new ArrayList<>(projectRevenues.size());
+        for (ProjectRevenue projectRevenue : projectRevenues)
+            projectsIds.add(projectRevenue.getId());
+        HashMap<String, Double> projectsTicketsValue = new HashMap<>();
+        for (ProjectTicketsValue ticketsValue : revenuesRepository.sumProjectsTicketsInPeriod(projectsIds, date))
+            projectsTicketsValue.put(ticketsValue.getId(), ticketsValue.getAmount());
         for (ProjectRevenue projectRevenue : projectRevenues) {
             projectRevenue.countInitialRevenueIfAfter(date);
-            projectRevenue.dropClosedTicketsBeforeDate(date);
+            projectRevenue.setPeriodTicketsValue(projectsTicketsValue.getOrDefault(projectRevenue.getId(), 0.0));
         }
     }
 
@@ -212,8 +447,10 @@ public class RevenuesService extends EquinoxItemsHelper {
      * @param insertionDate The date when the project has been created/inserted
      * @param userId The identifier of the user who created the project
      */
+    @Transactional
     public void createProjectRevenue(String projectRevenueId, double revenueValue, String revenueTitle,
                                      long insertionDate, String userId) {
+        resultsCache.invalidate(userId);
         revenuesRepository.insertProjectRevenue(
                 projectRevenueId,
                 revenueTitle,
@@ -228,6 +465,8 @@ public class RevenuesService extends EquinoxItemsHelper {
                 userId,
                 projectRevenueId
         );
+        revenuesRepository.refreshProjectCounters(projectRevenueId);
+        rollupsService.refreshRollups(userId, insertionDate);
     }
 
     /**
@@ -241,8 +480,10 @@ public class RevenuesService extends EquinoxItemsHelper {
      * @param labels The labels attached to the revenue
      * @param userId The identifier of the user who created the revenue
      */
+    @Transactional
     public void createGeneralRevenue(String revenueId, double revenueValue, String revenueTitle, long insertionDate,
                                      String revenueDescription, List<RevenueLabel> labels, String userId) {
+        resultsCache.invalidate(userId);
         revenuesRepository.insertGeneralRevenue(
                 revenueId,
                 revenueTitle,
@@ -253,6 +494,7 @@ public class RevenuesService extends EquinoxItemsHelper {
         );
         batchInsert(INSERT_IGNORE_INTO, LABELS_KEY, new LabelsBatchQuery(labels));
         batchInsert(INSERT_INTO, REVENUE_LABELS_KEY, new RevenueLabelsBatchQuery(revenueId, labels));
+        rollupsService.refreshRollups(userId, insertionDate);
     }
 
     /**
@@ -266,8 +508,11 @@ public class RevenuesService extends EquinoxItemsHelper {
      * @param labels The labels attached to the revenue
      * @param userId The identifier of the user who created the revenue
      */
+    @Transactional
     public void editGeneralRevenue(String revenueId, double revenueValue, String revenueTitle, long insertionDate,
                                    String revenueDescription, List<RevenueLabel> labels, String userId) {
+        resultsCache.invalidate(userId);
+        GeneralRevenue generalRevenue = revenuesRepository.generalRevenueExistsById(userId, revenueId);
         revenuesRepository.editGeneralRevenue(
                 revenueId,
                 revenueTitle,
@@ -277,13 +522,13 @@ public class RevenuesService extends EquinoxItemsHelper {
         );
         batchInsert(INSERT_IGNORE_INTO, LABELS_KEY, new LabelsBatchQuery(labels));
         batchInsert(INSERT_IGNORE_INTO, REVENUE_LABELS_KEY, new RevenueLabelsBatchQuery(revenueId, labels));
-        GeneralRevenue generalRevenue = revenuesRepository.generalRevenueExistsById(userId, revenueId);
         HashSet<String> labelsAttached = new HashSet<>(labels.stream().map(RevenueLabel::getId).toList());
         List<RevenueLabelItem> deletableLabels = new ArrayList<>();
         for (RevenueLabel label : generalRevenue.getLabels())
             if(!labelsAttached.contains(label.getId()))
                 deletableLabels.add(new RevenueLabelItem(generalRevenue, label));
         batchDelete(REVENUE_LABELS_KEY, deletableLabels, REVENUE_IDENTIFIER_KEY, IDENTIFIER_KEY);
+        rollupsService.refreshRollups(userId, generalRevenue.getRevenueTimestamp(), insertionDate);
     }
 
     /**
@@ -306,10 +551,12 @@ public class RevenuesService extends EquinoxItemsHelper {
      * @param insertionDate The date when the project has been created/inserted
      * @param userId The identifier of the user who created the project
      */
+    @Transactional
     public void editProjectRevenue(String projectRevenueId, double revenueValue, String revenueTitle, long insertionDate,
                                    String userId) {
+        resultsCache.invalidate(userId);
         ProjectRevenue projectRevenue = getProjectRevenue(userId, projectRevenueId);
-        InitialRevenue initialRevenue = projectRevenue.getInitialRevenue();
+        InitialRevenue initialRevenue = revenuesRepository.getInitialRevenue(projectRevenueId);
         long projectRevenueDate = projectRevenue.getRevenueTimestamp();
         if(projectRevenueDate == initialRevenue.getRevenueTimestamp())
             projectRevenueDate = insertionDate;
@@ -324,6 +571,9 @@ public class RevenuesService extends EquinoxItemsHelper {
                 revenueTitle,
                 roundValue(revenueValue, 2)
         );
+        revenuesRepository.refreshProjectCounters(projectRevenueId);
+        rollupsService.refreshRollups(userId, projectRevenue.getRevenueTimestamp(),
+                initialRevenue.getRevenueTimestamp(), projectRevenueDate, insertionDate);
     }
 
     /**
@@ -338,7 +588,26 @@ public class RevenuesService extends EquinoxItemsHelper {
     }
 
     /**
-     * Method to get the balance of the project, this count just the closed ticket
+     * Method to get a project with its initial revenue and its tickets attached, the tickets are loaded with a single
+     * query
+     *
+     * @param userId The identifier of the user who requested the project
+     * @param revenueId The identifier of the project to get
+     * @return the project revenue as {@link ProjectRevenue}, null if it not exists
+     */
+    public ProjectRevenue getProjectRevenueWithTickets(String userId, String revenueId) {
+        ProjectRevenue projectRevenue = getProjectRevenue(userId, revenueId);
+        if(projectRevenue != null) {
+            projectRevenue.attachInitialRevenue(revenuesRepository.getInitialRevenue(revenueId));
+            projectRevenue.attachTickets(revenuesRepository.getProjectsTickets(List.of(revenueId)));
+        }
+        return projectRevenue;
+    }
+
+    /**
+     * Method to get the balance of the project, this count just the closed ticket. The balance is read from the
+     * materialized counters of the project, just when a period different from {@link RevenuePeriod#ALL} is
+     * requested the closed tickets of that period are summed
      *
      * @param project The project to calculate its balance
      * @param period The period to use to select the tickets
@@ -347,17 +616,51 @@ public class RevenuesService extends EquinoxItemsHelper {
      * @return the balance of the project as {@code double}
      */
     public double getProjectBalance(ProjectRevenue project, RevenuePeriod period, boolean retrieveClosedTickets) {
-        double balance = project.getInitialRevenue().getValue();
-        List<TicketRevenue> tickets = getTickets(project.getId(), DEFAULT_PAGE, MAX_VALUE, period, false,
-                retrieveClosedTickets).getData();
-        for (TicketRevenue ticket : tickets)
-                balance += ticket.getValue();
+        double balance = project.getInitialValue();
+        if(retrieveClosedTickets) {
+            if(period == ALL)
+                balance += project.getClosedTicketsValue();
+            else
+                balance += revenuesRepository.sumClosedTickets(project.getId(), period.calculateFromDate(period, 1));
+        }
         return roundValue(balance, 2);
     }
 
     /**
-     * Method to get the tickets attached to a project
+     * Method to get the statistics of the tickets of a project, the counters, the sums and the average time to close
+     * are aggregated by a single query and the largest tickets by a top-N query. The statistics are cached until the
+     * next write of the owner of the project
+     *
+     * @param userId The identifier of the owner of the project
+     * @param projectId The identifier of the project
+     *
+     * @return the statistics of the tickets as {@link ProjectStats}
+     */
+    public ProjectStats getProjectStats(String userId, String projectId) {
+        return resultsCache.getResult(userId, resultKey("project_stats", projectId), () -> {
+            ProjectTicketsStats stats = revenuesRepository.getProjectTicketsStats(projectId);
+            List<ProjectTicketSummary> largestTickets = new ArrayList<>();
+            for (TicketRevenue ticket : revenuesRepository.getLargestTickets(projectId, LARGEST_TICKETS_NUMBER)) {
+                largestTickets.add(new ProjectTicketSummary(ticket.getId(), ticket.getTitle(), ticket.getValue(),
+                        ticket.getRevenueTimestamp(), ticket.getClosingTimestamp()));
+            }
+            Double averageTimeToClose = stats.getDuration();
+            return new ProjectStats(
+                    stats.getPending(),
+                    stats.getClosed(),
+                    roundValue(stats.getOutstanding(), 2),
+                    roundValue(stats.getCollected(), 2),
+                    averageTimeToClose != null ? Math.round(averageTimeToClose) : 0,
+                    largestTickets
+            );
+        });
+    }
+
+    /**
+     * Method to get the tickets attached to a project, the total of the tickets is computed following the
+     * {@link #countStrategy}
      *
+     * @param userId The identifier of the owner of the project
      * @param projectId The project identifier
      * @param page      The page requested
      * @param pageSize  The size of the items to insert in the page
@@ -367,25 +670,75 @@ public class RevenuesService extends EquinoxItemsHelper {
      *
      * @return the tickets attached to a project as {@link PaginatedResponse} of {@link TicketRevenue}
      */
-    public PaginatedResponse<TicketRevenue> getTickets(String projectId, int page, int pageSize, RevenuePeriod period,
-                                                       boolean retrievePendingTickets, boolean retrieveClosedTickets) {
-        Pageable pageable = PageRequest.of(page, pageSize);
-        long fromDate = period.calculateFromDate(period, 1);
-        List<TicketRevenue> tickets = new ArrayList<>();
-        long totalTickets = 0;
-        if(retrievePendingTickets && retrieveClosedTickets) {
-            tickets = revenuesRepository.getAllTickets(projectId, fromDate, pageable);
-            totalTickets = revenuesRepository.countAllTickets(projectId, fromDate);
-        } else if(retrievePendingTickets) {
-            tickets = revenuesRepository.getPendingTickets(projectId, fromDate, pageable);
-            totalTickets = revenuesRepository.countPendingTickets(projectId, fromDate);
-        } else if(retrieveClosedTickets){
-            tickets = revenuesRepository.getClosedTickets(projectId, fromDate, pageable);
-            totalTickets = revenuesRepository.countClosedTickets(projectId, fromDate);
+    public PaginatedResponse<TicketRevenue> getTickets(String userId, String projectId, int page, int pageSize,
+                                                       RevenuePeriod period, boolean retrievePendingTickets,
+                                                       boolean retrieveClosedTickets) {
+        long fromDate = calculatePeriodStart(period, 1);
+        int fetchSize = countStrategy == HAS_MORE ? pageSize + 1 : pageSize;
+        List<TicketRevenue> tickets = revenuesRepository.getTicketsPage(projectId, fromDate, retrievePendingTickets,
+                retrieveClosedTickets, FIRST_PAGE.getRevenueDate(), FIRST_PAGE.getRevenueId(), fetchSize,
+                (long) page * pageSize);
+        long totalTickets;
+        if(countStrategy == HAS_MORE) {
+            totalTickets = (long) page * pageSize + tickets.size();
+            if(tickets.size() > pageSize)
+                tickets = new ArrayList<>(tickets.subList(0, pageSize));
+        } else if(countStrategy == COUNTERS && period == ALL) {
+            totalTickets = revenuesRepository.countTicketsFromCounters(projectId, retrievePendingTickets,
+                    retrieveClosedTickets);
+        } else {
+            totalTickets = resultsCache.getResult(userId, resultKey("tickets_count", projectId, fromDate,
+                    retrievePendingTickets, retrieveClosedTickets), () -> revenuesRepository.countTickets(projectId,
+                    fromDate, retrievePendingTickets, retrieveClosedTickets));
         }
         return new PaginatedResponse<>(tickets, page, pageSize, totalTickets);
     }
 
+    /**
+     * Method to get the tickets attached to a project with the keyset pagination
+     *
+     * @param projectId The project identifier
+     * @param cursor The cursor of the page requested, {@link RevenuesCursor#FIRST_PAGE_CURSOR} for the first page
+     * @param pageSize  The size of the items to insert in the page
+     * @param period The period to use to select the tickets
+     * @param retrievePendingTickets Whether include the pending tickets
+     * @param retrieveClosedTickets Whether include the closed tickets
+     *
+     * @return the tickets attached to a project as {@link CursorPaginatedResponse} of {@link TicketRevenue}
+     *
+     * @throws IllegalArgumentException when the cursor is not valid
+     */
+    public CursorPaginatedResponse<TicketRevenue> getTickets(String projectId, String cursor, int pageSize,
+                                                             RevenuePeriod period, boolean retrievePendingTickets,
+                                                             boolean retrieveClosedTickets) {
+        RevenuesCursor ticketsCursor = RevenuesCursor.decode(cursor);
+        long fromDate = calculatePeriodStart(period, 1);
+        List<TicketRevenue> tickets = revenuesRepository.getTicketsPage(projectId, fromDate, retrievePendingTickets,
+                retrieveClosedTickets, ticketsCursor.getRevenueDate(), ticketsCursor.getRevenueId(), pageSize + 1,
+                0);
+        return assembleCursorPage(tickets, pageSize);
+    }
+
+    /**
+     * Method to get the pending tickets of all the projects of a user with the keyset pagination
+     *
+     * @param userId The identifier of the user
+     * @param cursor The cursor of the page requested, {@link RevenuesCursor#FIRST_PAGE_CURSOR} for the first page
+     * @param pageSize  The size of the items to insert in the page
+     *
+     * @return the pending tickets as {@link CursorPaginatedResponse} of {@link TicketRevenue}
+     *
+     * @throws IllegalArgumentException when the cursor is not valid
+     *
+     * @since 1.0.5
+     */
+    public CursorPaginatedResponse<TicketRevenue> getPendingTickets(String userId, String cursor, int pageSize) {
+        RevenuesCursor ticketsCursor = RevenuesCursor.decode(cursor);
+        List<TicketRevenue> tickets = revenuesRepository.getPendingTicketsFeed(userId, ticketsCursor.getRevenueDate(),
+                ticketsCursor.getRevenueId(), pageSize + 1);
+        return assembleCursorPage(tickets, pageSize);
+    }
+
     /**
      * Method to store a ticket for a project
      *
@@ -394,21 +747,25 @@ public class RevenuesService extends EquinoxItemsHelper {
      * @param ticketTitle The title of the ticket
      * @param ticketDescription The description of the ticket
      * @param openingTime When the ticket has been opened
-     * @param projectRevenueId The identifier of the project where attach the ticket
+     * @param projectRevenue The project where attach the ticket
      * @param userId The identifier of the user who requested the ticket creation
      */
+    @Transactional
     public void addTicket(String ticketId, double ticketRevenue, String ticketTitle,
-                          String ticketDescription, long openingTime, String projectRevenueId,
+                          String ticketDescription, long openingTime, ProjectRevenue projectRevenue,
                           String userId) {
+        resultsCache.invalidate(userId);
         revenuesRepository.addTicket(
                 ticketId,
                 roundValue(ticketRevenue, 2),
                 ticketTitle,
                 ticketDescription,
                 openingTime,
-                projectRevenueId,
+                projectRevenue.getId(),
                 userId
         );
+        revenuesRepository.refreshProjectCounters(projectRevenue.getId());
+        rollupsService.refreshRollups(userId, projectRevenue.getRevenueTimestamp());
     }
 
     /**
@@ -419,9 +776,13 @@ public class RevenuesService extends EquinoxItemsHelper {
      * @param ticketTitle The title of the ticket
      * @param ticketDescription The description of the ticket
      * @param openingTime When the ticket has been opened
+     * @param projectRevenue The project where the ticket is attached
+     * @param userId The identifier of the user who requested the ticket editing
      */
+    @Transactional
     public void editTicket(String ticketId, double ticketRevenue, String ticketTitle, String ticketDescription,
-                           long openingTime) {
+                           long openingTime, ProjectRevenue projectRevenue, String userId) {
+        resultsCache.invalidate(userId);
         revenuesRepository.editTicket(
                 ticketId,
                 roundValue(ticketRevenue, 2),
@@ -429,6 +790,20 @@ public class RevenuesService extends EquinoxItemsHelper {
                 ticketDescription,
                 openingTime
         );
+        revenuesRepository.refreshProjectCounters(projectRevenue.getId());
+        rollupsService.refreshRollups(userId, projectRevenue.getRevenueTimestamp());
+    }
+
+    /**
+     * Method to check whether a ticket with the specified title is attached to a project, the check is answered by an
+     * indexed existence query so the tickets of the project are never loaded
+     *
+     * @param projectId The identifier of the project
+     * @param ticketTitle The title of the ticket to check
+     * @return whether the ticket is attached as boolean
+     */
+    public boolean ticketExists(String projectId, String ticketTitle) {
+        return revenuesRepository.countTicketsByTitle(projectId, ticketTitle) > 0;
     }
 
     /**
@@ -455,51 +830,172 @@ public class RevenuesService extends EquinoxItemsHelper {
     }
 
     /**
-     * Method to close a ticket
+     * Method to close a ticket, the ticket is closed and the last revenue date and the counters of the project are
+     * updated with a single statement
      *
-     * @param ticketId The identifier of the ticket to close
+     * @param ticket The ticket to close
      * @param userId The identifier of the user who requested the closing of the ticket
      * @param projectRevenueId The identifier of the project
      */
-    public void closeTicketRevenue(String ticketId, String userId, String projectRevenueId) {
+    @Transactional
+    public void closeTicketRevenue(TicketRevenue ticket, String userId, String projectRevenueId) {
+        resultsCache.invalidate(userId);
+        long projectRevenueDate = ticket.getProjectRevenue().getRevenueTimestamp();
         long closingDate = System.currentTimeMillis();
         revenuesRepository.closeTicketRevenue(
-                ticketId,
+                ticket.getId(),
                 userId,
                 projectRevenueId,
                 closingDate
         );
-        editLastRevenueDate(projectRevenueId, closingDate);
+        rollupsService.refreshRollups(userId, ticket.getRevenueTimestamp(), projectRevenueDate, closingDate);
     }
 
     /**
-     * Method to delete a ticket
+     * Method to delete a ticket, after the deletion the last revenue date and the counters of the project are
+     * refreshed with a single correlated statement
      *
      * @param ticket The ticket to delete
+     * @param userId The identifier of the user who requested the deletion of the ticket
      */
-    public void deleteTicketRevenue(TicketRevenue ticket) {
+    @Transactional
+    public void deleteTicketRevenue(TicketRevenue ticket, String userId) {
+        resultsCache.invalidate(userId);
+        ProjectRevenue projectRevenue = ticket.getProjectRevenue();
+        String projectId = projectRevenue.getId();
+        long projectRevenueDate = projectRevenue.getRevenueTimestamp();
         revenuesRepository.deleteTicketRevenue(ticket.getId());
-        if(ticket.isClosed())
-            editLastRevenueDateAfterTicketDeletion(ticket);
+        revenuesRepository.refreshProjectAfterTicketsDeletion(projectId);
+        if(ticket.isClosed()) {
+            long lastRevenueDate = revenuesRepository.getProjectRevenueDate(projectId);
+            rollupsService.refreshRollups(userId, ticket.getRevenueTimestamp(), projectRevenueDate, lastRevenueDate);
+        } else
+            rollupsService.refreshRollups(userId, projectRevenueDate);
     }
 
     /**
-     * Method invoked after a closed {@link TicketRevenue} has been deleted to edit the revenue date of a
-     * {@link ProjectRevenue} with the last closed ticket date if available, otherwise with the revenue date of the
-     * {@link InitialRevenue}
+     * Method to close many pending tickets of a project in a single transaction, the tickets are closed with a
+     * single statement and the last revenue date, the counters and the rollups of the project are refreshed once
+     *
+     * @param userId The identifier of the user who requested the closing of the tickets
+     * @param projectRevenue The project where the tickets are attached
+     * @param ticketsIds The identifiers of the tickets to close
      *
-     * @param ticket The ticket deleted
+     * @return whether the tickets have been closed, false if any ticket is not a pending ticket of the project, as
+     * boolean
      */
-    private void editLastRevenueDateAfterTicketDeletion(TicketRevenue ticket) {
-        ProjectRevenue project = ticket.getProjectRevenue();
-        String projectId = project.getId();
-        Long lastClosedTicket = revenuesRepository.getLastClosedTicketDate(projectId);
-        long lastRevenueDate;
-        if(lastClosedTicket != null)
-            lastRevenueDate = lastClosedTicket;
-        else
-            lastRevenueDate = project.getInitialRevenue().getRevenueTimestamp();
-        editLastRevenueDate(projectId, lastRevenueDate);
+    @Transactional
+    public boolean closeTickets(String userId, ProjectRevenue projectRevenue, List<String> ticketsIds) {
+        String projectId = projectRevenue.getId();
+        Set<String> tickets = new HashSet<>(ticketsIds);
+        List<Long> ticketsDates = getBatchTicketsDates(userId, projectId, tickets, true);
+        if(ticketsDates == null)
+            return false;
+        resultsCache.invalidate(userId);
+        long closingDate = System.currentTimeMillis();
+        revenuesRepository.closeTickets(tickets, userId, projectId, closingDate);
+        editLastRevenueDate(projectId, closingDate);
+        revenuesRepository.refreshProjectCounters(projectId);
+        ticketsDates.add(projectRevenue.getRevenueTimestamp());
+        ticketsDates.add(closingDate);
+        rollupsService.refreshRollups(userId, toDatesArray(ticketsDates));
+        return true;
+    }
+
+    /**
+     * Method to edit many pending tickets of a project in a single transaction, the tickets are edited with a single
+     * statement and the counters and the rollups of the project are refreshed once
+     *
+     * @param userId The identifier of the user who requested the editing of the tickets
+     * @param projectRevenue The project where the tickets are attached
+     * @param edits The new details of the tickets to edit
+     *
+     * @return whether the tickets have been edited, false if any ticket is not a pending ticket of the project or is
+     * edited more than once, as boolean
+     */
+    @Transactional
+    public boolean editTickets(String userId, ProjectRevenue projectRevenue, List<TicketEditItem> edits) {
+        String projectId = projectRevenue.getId();
+        Set<String> tickets = new HashSet<>();
+        for (TicketEditItem edit : edits)
+            tickets.add(edit.getTicketId());
+        if(tickets.size() != edits.size())
+            return false;
+        List<Long> ticketsDates = getBatchTicketsDates(userId, projectId, tickets, true);
+        if(ticketsDates == null)
+            return false;
+        resultsCache.invalidate(userId);
+        new TicketsEditBatchQuery(edits).execute(entityManager, projectId, userId);
+        entityManager.clear();
+        revenuesRepository.refreshProjectCounters(projectId);
+        for (TicketEditItem edit : edits)
+            ticketsDates.add(edit.getOpeningTime());
+        ticketsDates.add(projectRevenue.getRevenueTimestamp());
+        rollupsService.refreshRollups(userId, toDatesArray(ticketsDates));
+        return true;
+    }
+
+    /**
+     * Method to delete many tickets of a project in a single transaction, the tickets are deleted with a single
+     * statement and the last revenue date, the counters and the rollups of the project are refreshed once
+     *
+     * @param userId The identifier of the user who requested the deletion of the tickets
+     * @param projectRevenue The project where the tickets are attached
+     * @param ticketsIds The identifiers of the tickets to delete
+     *
+     * @return whether the tickets have been deleted, false if any ticket is not attached to the project, as boolean
+     */
+    @Transactional
+    public boolean deleteTickets(String userId, ProjectRevenue projectRevenue, List<String> ticketsIds) {
+        String projectId = projectRevenue.getId();
+        Set<String> tickets = new HashSet<>(ticketsIds);
+        List<Long> ticketsDates = getBatchTicketsDates(userId, projectId, tickets, false);
+        if(ticketsDates == null)
+            return false;
+        resultsCache.invalidate(userId);
+        revenuesRepository.deleteTickets(tickets, userId, projectId);
+        revenuesRepository.refreshProjectAfterTicketsDeletion(projectId);
+        ticketsDates.add(projectRevenue.getRevenueTimestamp());
+        ticketsDates.add(revenuesRepository.getProjectRevenueDate(projectId));
+        rollupsService.refreshRollups(userId, toDatesArray(ticketsDates));
+        return true;
+    }
+
+    /**
+     * Method to get the dates of the tickets of a batch operation checking that all of them are attached to the
+     * project
+     *
+     * @param userId The identifier of the owner of the tickets
+     * @param projectId The identifier of the project where the tickets are attached
+     * @param tickets The identifiers of the tickets of the batch
+     * @param pendingOnly Whether all the tickets must be pending
+     *
+     * @return the dates of the tickets as {@link List} of {@link Long}, null if the batch is empty, too large or any
+     * ticket is not valid
+     */
+    private List<Long> getBatchTicketsDates(String userId, String projectId, Set<String> tickets,
+                                           boolean pendingOnly) {
+        if(tickets.isEmpty() || tickets.size() > MAX_TICKETS_BATCH_SIZE)
+            return null;
+        List<Long> ticketsDates = new ArrayList<>(revenuesRepository.getProjectTicketsDates(projectId, userId,
+                tickets, pendingOnly));
+        if(ticketsDates.size() != tickets.size())
+            return null;
+        return ticketsDates;
+    }
+
+    /**
+     * Method to convert a list of dates into an array
+     *
+     * @param dates The dates to convert
+     *
+     * @return the dates as array of long
+     */
+    private long[] toDatesArray(List<Long> dates) {
+        long[] datesArray = new long[dates.size()];
+        for (int j = 0; j < datesArray.length; j++)
+            datesArray[j] = dates.get(j);
+        return datesArray;
     }
 
     /**
@@ -520,21 +1016,45 @@ public class RevenuesService extends EquinoxItemsHelper {
      *
      * @return whether the revenue has been deleted as boolean
      */
+    @Transactional
     public boolean deleteRevenue(String userId, String revenueId) {
-        if(getProjectRevenue(userId, revenueId) != null) {
+        resultsCache.invalidate(userId);
+        ProjectRevenue projectRevenue = getProjectRevenue(userId, revenueId);
+        if(projectRevenue != null) {
+            long[] projectDates = getProjectDates(projectRevenue);
             revenuesRepository.deleteProjectRevenue(revenueId, userId);
+            rollupsService.refreshRollups(userId, projectDates);
             return true;
         } else {
             GeneralRevenue revenue = revenuesRepository.generalRevenueExistsById(userId, revenueId);
             if (revenue != null) {
                 deleteAndDeleteUnrelatedLabels(revenue);
                 revenuesRepository.deleteGeneralRevenue(revenueId, userId);
+                rollupsService.refreshRollups(userId, revenue.getRevenueTimestamp());
                 return true;
             } else
                 return false;
         }
     }
 
+    /**
+     * Method to get all the dates bucketed in the rollups for a project, the dates of the tickets are read from the
+     * database so they must be collected before the project is deleted
+     *
+     * @param projectRevenue The project from collect the dates
+     *
+     * @return the dates of the project, of its initial revenue and of its tickets as array of long
+     */
+    private long[] getProjectDates(ProjectRevenue projectRevenue) {
+        List<Long> ticketsDates = revenuesRepository.getTicketsDates(projectRevenue.getId());
+        long[] dates = new long[ticketsDates.size() + 2];
+        dates[0] = projectRevenue.getRevenueTimestamp();
+        dates[1] = projectRevenue.getInitialDate();
+        for (int j = 0; j < ticketsDates.size(); j++)
+            dates[j + 2] = ticketsDates.get(j);
+        return dates;
+    }
+
     /**
      * Method to detach the labels from the deleting revenue and, if needed, delete the labels which no have relationship
      * with other revenues
@@ -552,84 +1072,4 @@ public class RevenuesService extends EquinoxItemsHelper {
         }
     }
 
-    /**
-     * Method to convert all the revenues values in a new fiat currency
-     *
-     * @param userId The identifier of the user who requested the newCurrency change
-     * @param oldCurrency The current user's currency
-     * @param newCurrency The new currency of the user
-     */
-    public void convertRevenues(String userId, NeutronCurrency oldCurrency, NeutronCurrency newCurrency) {
-        refreshCurrencyRates();
-        List<Revenue> userRevenues = getRevenues(userId, 0, MAX_VALUE, ALL).getData();
-        for(Revenue revenue : userRevenues) {
-            if(revenue instanceof ProjectRevenue projectRevenue) {
-                InitialRevenue initialRevenue = projectRevenue.getInitialRevenue();
-                revenuesRepository.convertInitialRevenue(
-                        initialRevenue.getId(),
-                        getValueConverted(initialRevenue, oldCurrency, newCurrency)
-                );
-                for (TicketRevenue ticket : projectRevenue.getTickets()) {
-                    revenuesRepository.convertGeneralRevenue(
-                            ticket.getId(),
-                            getValueConverted(ticket, oldCurrency, newCurrency)
-                    );
-                }
-            } else {
-                revenuesRepository.convertGeneralRevenue(
-                        revenue.getId(),
-                        getValueConverted(revenue, oldCurrency, newCurrency)
-                );
-            }
-        }
-    }
-
-    /**
-     * Method to get the value of a revenue converted in the new fiat currency
-     *
-     * @param revenue The revenue from convert its value
-     * @param oldCurrency The current user's currency
-     * @param newCurrency The new currency of the user
-     *
-     * @return the value converted as double
-     */
-    private double getValueConverted(Revenue revenue, NeutronCurrency oldCurrency, NeutronCurrency newCurrency) {
-        double revenueValue = revenue.getValue();
-        double taxChange;
-        if(oldCurrency == DOLLAR) {
-            taxChange = currencyRates.get(newCurrency);
-            return roundValue(revenueValue * taxChange, 2);
-        } else {
-            taxChange = currencyRates.get(oldCurrency);
-            double usdValue = revenueValue / taxChange;
-            if(newCurrency == DOLLAR)
-                return roundValue(usdValue, 2);
-            else
-                return roundValue(usdValue * currencyRates.get(newCurrency), 2);
-        }
-    }
-
-    /**
-     * Method to refresh the {@link #currencyRates} values 
-     *
-     * @apiNote this is an api request made to the <a href="https://www.exchangerate-api.com">Rates By Exchange Rate API service</a>
-     */
-    public static void refreshCurrencyRates() {
-        if((System.currentTimeMillis() - previousRefreshTimestamp) >= MILLISECONDS.convert(1, DAYS)) {
-            APIRequest apiRequest = new APIRequest();
-            try {
-                apiRequest.sendAPIRequest(EXCHANGE_RATES_ENDPOINT, GET);
-                JsonHelper helper = new JsonHelper(apiRequest.getJSONResponse().toString());
-                JSONObject rates = helper.getJSONObject("rates");
-                if(rates != null) {
-                    for (NeutronCurrency currency : NeutronCurrency.getEntries())
-                        currencyRates.put(currency, rates.getDouble(currency.getIsoCode()));
-                    previousRefreshTimestamp = System.currentTimeMillis();
-                }
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-        }
-    }
-
 }
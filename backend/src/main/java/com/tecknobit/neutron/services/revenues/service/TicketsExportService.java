@@ -0,0 +1,175 @@
+package com.tecknobit.neutron.services.revenues.service;
+
+import com.tecknobit.neutroncore.enums.TicketsExportFormat;
+import org.json.JSONObject;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import javax.sql.DataSource;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+import static com.tecknobit.equinoxbackend.apis.database.SQLConstants._WHERE_;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.OWNER_KEY;
+import static com.tecknobit.neutroncore.ContantsKt.*;
+import static com.tecknobit.neutroncore.enums.TicketsExportFormat.CSV;
+
+/**
+ * The {@code TicketsExportService} class is useful to export the tickets of a project. The tickets are read with a
+ * forward-only cursor streamed by the driver and each row is written to the response as soon as it is read, so the
+ * memory used does not grow with the number of the tickets exported
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+@Service
+public class TicketsExportService {
+
+    /**
+     * {@code STREAMING_FETCH_SIZE} the fetch size which makes the MySQL driver stream the rows one by one instead of
+     * loading the whole result set in memory
+     */
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    /**
+     * {@code EXPORT_COLUMNS} the columns of the tickets exported, in the order they are written
+     */
+    private static final String[] EXPORT_COLUMNS = {
+            IDENTIFIER_KEY,
+            REVENUE_TITLE_KEY,
+            REVENUE_DESCRIPTION_KEY,
+            REVENUE_VALUE_KEY,
+            REVENUE_DATE_KEY,
+            CLOSING_DATE_KEY
+    };
+
+    /**
+     * {@code EXPORT_TICKETS_QUERY} the query used to read the tickets to export
+     */
+    private static final String EXPORT_TICKETS_QUERY = "SELECT " + String.join(",", EXPORT_COLUMNS) +
+            " FROM " + GENERAL_REVENUES_KEY +
+            _WHERE_ + "dtype='ticket'" +
+            " AND " + PROJECT_REVENUE_KEY + "=?" +
+            " AND " + OWNER_KEY + "=?" +
+            " ORDER BY " + REVENUE_DATE_KEY + " DESC, " + IDENTIFIER_KEY + " DESC";
+
+    /**
+     * {@code jdbcTemplate} the template used to stream the tickets to export
+     */
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Constructor to init the service
+     *
+     * @param dataSource The data source from where read the tickets
+     */
+    @Autowired
+    public TicketsExportService(DataSource dataSource) {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(STREAMING_FETCH_SIZE);
+    }
+
+    /**
+     * Method to export the tickets of a project, the query is executed just when the response is written
+     *
+     * @param projectId The identifier of the project
+     * @param userId The identifier of the owner of the project
+     * @param format The format of the export
+     *
+     * @return the body which writes the tickets as {@link StreamingResponseBody}
+     */
+    public StreamingResponseBody exportTickets(String projectId, String userId, TicketsExportFormat format) {
+        return outputStream -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            if(format == CSV)
+                writer.write(String.join(",", EXPORT_COLUMNS) + "\n");
+            try {
+                jdbcTemplate.query(EXPORT_TICKETS_QUERY, resultSet -> {
+                    try {
+                        if(format == CSV)
+                            writeCsvRow(writer, resultSet);
+                        else
+                            writeJsonLine(writer, resultSet);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }, projectId, userId);
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            writer.flush();
+        };
+    }
+
+    /**
+     * Method to write a ticket as a row of comma separated values
+     *
+     * @param writer The writer of the response
+     * @param resultSet The result set positioned on the ticket to write
+     *
+     * @throws IOException when the row cannot be written
+     * @throws SQLException when the ticket cannot be read
+     */
+    private void writeCsvRow(Writer writer, ResultSet resultSet) throws IOException, SQLException {
+        writer.write(escapeCsvValue(resultSet.getString(IDENTIFIER_KEY)));
+        writer.write(',');
+        writer.write(escapeCsvValue(resultSet.getString(REVENUE_TITLE_KEY)));
+        writer.write(',');
+        writer.write(escapeCsvValue(resultSet.getString(REVENUE_DESCRIPTION_KEY)));
+        writer.write(',');
+        writer.write(String.valueOf(resultSet.getDouble(REVENUE_VALUE_KEY)));
+        writer.write(',');
+        writer.write(String.valueOf(resultSet.getLong(REVENUE_DATE_KEY)));
+        writer.write(',');
+        writer.write(String.valueOf(resultSet.getLong(CLOSING_DATE_KEY)));
+        writer.write('\n');
+    }
+
+    /**
+     * Method to escape a value to write in a comma separated row, the value is quoted when contains a separator,
+     * a quote or a line break
+     *
+     * @param value The value to escape
+     *
+     * @return the value escaped as {@link String}
+     */
+    private String escapeCsvValue(String value) {
+        if(value == null)
+            return "";
+        if(value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0)
+            return value;
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Method to write a ticket as a json line
+     *
+     * @param writer The writer of the response
+     * @param resultSet The result set positioned on the ticket to write
+     *
+     * @throws IOException when the line cannot be written
+     * @throws SQLException when the ticket cannot be read
+     */
+    private void writeJsonLine(Writer writer, ResultSet resultSet) throws IOException, SQLException {
+        JSONObject ticket = new JSONObject()
+                .put(IDENTIFIER_KEY, resultSet.getString(IDENTIFIER_KEY))
+                .put(REVENUE_TITLE_KEY, resultSet.getString(REVENUE_TITLE_KEY))
+                .put(REVENUE_DESCRIPTION_KEY, resultSet.getString(REVENUE_DESCRIPTION_KEY))
+                .put(REVENUE_VALUE_KEY, resultSet.getDouble(REVENUE_VALUE_KEY))
+                .put(REVENUE_DATE_KEY, resultSet.getLong(REVENUE_DATE_KEY))
+                .put(CLOSING_DATE_KEY, resultSet.getLong(CLOSING_DATE_KEY));
+        ticket.write(writer);
+        writer.write('\n');
+    }
+
+}
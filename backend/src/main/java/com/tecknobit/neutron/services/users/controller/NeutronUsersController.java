@@ -12,10 +12,12 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 
+import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.PATCH;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
 import static com.tecknobit.neutroncore.ContantsKt.CURRENCY_KEY;
 import static com.tecknobit.neutroncore.helpers.NeutronEndpoints.CHANGE_CURRENCY_ENDPOINT;
+import static com.tecknobit.neutroncore.helpers.NeutronEndpoints.CURRENCY_CONVERSION_ENDPOINT;
 
 /**
  * The {@code NeutronUsersController} class is useful to manage all the user operations
@@ -88,11 +90,36 @@ public class NeutronUsersController extends EquinoxUsersController<NeutronUser,
         if(!NeutronInputsValidator.INSTANCE.isCurrencyValid(currency))
             return failedResponse(WRONG_CURRENCY_MESSAGE);
         try {
-            usersService.changeCurrency(currency, me.getCurrency(), id);
+            usersService.changeCurrency(currency, me);
             return successResponse();
         } catch (Exception e) {
             return failedResponse(WRONG_PROCEDURE_MESSAGE);
         }
     }
 
+    /**
+     * Method to get the status of the conversion of the revenues of the user in its current currency, the revenues
+     * are consistent with the currency when the conversion is completed
+     *
+     * @param id The identifier of the user
+     * @param token The token of the user
+     *
+     * @return the result of the request as {@link String}
+     */
+    @GetMapping(
+            path = USERS_KEY + "/{" + USER_IDENTIFIER_KEY + "}" + CURRENCY_CONVERSION_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{user_id}/currencyConversion", method = GET)
+    public <T> T getCurrencyConversionStatus(
+            @PathVariable(USER_IDENTIFIER_KEY) String id,
+            @RequestHeader(TOKEN_KEY) String token
+    ) {
+        if(!isMe(id, token))
+            return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        return (T) successResponse(usersService.getCurrencyConversionStatus(id, me.getCurrency()));
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.tecknobit.neutron.services.users.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.tecknobit.equinoxbackend.annotations.EmptyConstructor;
 import com.tecknobit.equinoxbackend.environment.services.users.entity.EquinoxUser;
 import com.tecknobit.neutroncore.enums.NeutronCurrency;
@@ -10,6 +11,7 @@ import jakarta.persistence.Table;
 
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.USERS_KEY;
 import static com.tecknobit.neutroncore.ContantsKt.CURRENCY_KEY;
+import static com.tecknobit.neutroncore.ContantsKt.REVENUES_CURRENCY_KEY;
 import static jakarta.persistence.EnumType.STRING;
 
 /**
@@ -34,6 +36,20 @@ public class NeutronUser extends EquinoxUser {
     )
     private final NeutronCurrency currency;
 
+    /**
+     * {@code revenuesCurrency} the currency in which the amounts of the revenues of the user are stored, {@code null}
+     * when they are stored in the {@link #currency} of the user
+     *
+     * @since 1.0.5
+     */
+    @Enumerated(value = STRING)
+    @Column(
+            name = REVENUES_CURRENCY_KEY,
+            columnDefinition = "TEXT DEFAULT NULL",
+            insertable = false
+    )
+    private final NeutronCurrency revenuesCurrency;
+
     /**
      * Constructor to init the {@link EquinoxUser} class
      */
@@ -59,6 +75,7 @@ public class NeutronUser extends EquinoxUser {
                        String language, NeutronCurrency currency) {
         super(id, token, name, surname, email, password, profilePic, language);
         this.currency = currency;
+        revenuesCurrency = null;
     }
 
     /**
@@ -70,4 +87,18 @@ public class NeutronUser extends EquinoxUser {
         return currency;
     }
 
+    /**
+     * Method to get the currency in which the amounts of the revenues of the user are stored
+     *
+     * @return the currency in which the amounts are stored as {@link NeutronCurrency}
+     *
+     * @since 1.0.5
+     */
+    @JsonIgnore
+    public NeutronCurrency getRevenuesCurrency() {
+        if(revenuesCurrency == null)
+            return currency;
+        return revenuesCurrency;
+    }
+
 }
@@ -9,10 +9,13 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 import static com.tecknobit.equinoxbackend.apis.database.SQLConstants._WHERE_;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.USERS_KEY;
 import static com.tecknobit.neutroncore.ContantsKt.CURRENCY_KEY;
+import static com.tecknobit.neutroncore.ContantsKt.REVENUES_CURRENCY_KEY;
 
 /**
  * The {@code NeutronUsersRepository} interface is useful to manage the queries for the users operations
@@ -25,7 +28,8 @@ import static com.tecknobit.neutroncore.ContantsKt.CURRENCY_KEY;
 public interface NeutronUsersRepository extends EquinoxUsersRepository<NeutronUser> {
     
     /**
-     * Method to execute the query to change the currency of the {@link NeutronUser}
+     * Method to execute the query to change the currency of the {@link NeutronUser}, the amounts of its revenues are
+     * left in the currency where they are stored which, when not set yet, is the current currency of the user
      *
      * @param newCurrency The new currency of the user
      * @param id The identifier of the user
@@ -34,6 +38,7 @@ public interface NeutronUsersRepository extends EquinoxUsersRepository<NeutronUs
     @Transactional
     @Query(
             value = "UPDATE " + USERS_KEY + " SET " +
+                    REVENUES_CURRENCY_KEY + "=COALESCE(" + REVENUES_CURRENCY_KEY + "," + CURRENCY_KEY + ")," +
                     CURRENCY_KEY + "=:" + CURRENCY_KEY +
                     _WHERE_ + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
             nativeQuery = true
@@ -43,4 +48,38 @@ public interface NeutronUsersRepository extends EquinoxUsersRepository<NeutronUs
             @Param(IDENTIFIER_KEY) String id
     );
 
+    /**
+     * Method to execute the query to change the currency in which the amounts of the revenues of the
+     * {@link NeutronUser} are stored, used when the revenues have been rewritten in that currency
+     *
+     * @param revenuesCurrency The currency in which the amounts are stored
+     * @param id The identifier of the user
+     */
+    @Modifying(clearAutomatically = true)
+    @Transactional
+    @Query(
+            value = "UPDATE " + USERS_KEY + " SET " +
+                    REVENUES_CURRENCY_KEY + "=:" + REVENUES_CURRENCY_KEY +
+                    _WHERE_ + IDENTIFIER_KEY + "=:" + IDENTIFIER_KEY,
+            nativeQuery = true
+    )
+    void changeRevenuesCurrency(
+            @Param(REVENUES_CURRENCY_KEY) String revenuesCurrency,
+            @Param(IDENTIFIER_KEY) String id
+    );
+
+    /**
+     * Method to get the identifiers of the users whose revenues are stored in a currency different from their
+     * current currency
+     *
+     * @return the identifiers of the users as {@link List} of {@link String}
+     */
+    @Query(
+            value = "SELECT " + IDENTIFIER_KEY + " FROM " + USERS_KEY +
+                    _WHERE_ + REVENUES_CURRENCY_KEY + " IS NOT NULL" +
+                    " AND " + REVENUES_CURRENCY_KEY + "<>" + CURRENCY_KEY,
+            nativeQuery = true
+    )
+    List<String> getUsersToConvert();
+
 }
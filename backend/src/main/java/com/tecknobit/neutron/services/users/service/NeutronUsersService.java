@@ -2,17 +2,20 @@ package com.tecknobit.neutron.services.users.service;
 
 import com.tecknobit.equinoxbackend.environment.services.users.entity.EquinoxUser;
 import com.tecknobit.equinoxbackend.environment.services.users.service.EquinoxUsersService;
-import com.tecknobit.neutron.services.revenues.service.RevenuesService;
+import com.tecknobit.neutron.services.cache.UserResultsCache;
+import com.tecknobit.neutron.services.revenues.entities.CurrencyConversionRun;
+import com.tecknobit.neutron.services.revenues.service.CurrencyConversionExecutor;
 import com.tecknobit.neutron.services.users.entity.NeutronUser;
 import com.tecknobit.neutron.services.users.repository.NeutronUsersRepository;
+import com.tecknobit.neutroncore.dtos.CurrencyConversionStatus;
 import com.tecknobit.neutroncore.enums.NeutronCurrency;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.Set;
 
 import static com.tecknobit.neutroncore.ContantsKt.CURRENCY_KEY;
 
@@ -25,20 +28,28 @@ import static com.tecknobit.neutroncore.ContantsKt.CURRENCY_KEY;
 public class NeutronUsersService extends EquinoxUsersService<NeutronUser, NeutronUsersRepository> {
 
     /**
-     * {@code revenuesService} instance for the revenues repository
+     * {@code conversionExecutor} the executor of the conversions of the revenues in a new currency
      */
-    private final RevenuesService revenuesService;
+    private final CurrencyConversionExecutor conversionExecutor;
+
+    /**
+     * {@code resultsCache} the cache of the results computed for the users
+     */
+    private final UserResultsCache resultsCache;
 
     /**
      * Constructor to init the {@link EquinoxUsersService} service
      *
      * @param usersRepository The instance for the users repository
-     * @param revenuesService The instance for the revenues repository
+     * @param conversionExecutor The executor of the conversions of the revenues in a new currency
+     * @param resultsCache The cache of the results computed for the users
      */
     @Autowired
-    public NeutronUsersService(NeutronUsersRepository usersRepository, RevenuesService revenuesService) {
+    public NeutronUsersService(NeutronUsersRepository usersRepository, CurrencyConversionExecutor conversionExecutor,
+                               UserResultsCache resultsCache) {
         super(usersRepository);
-        this.revenuesService = revenuesService;
+        this.conversionExecutor = conversionExecutor;
+        this.resultsCache = resultsCache;
     }
 
     /**
@@ -55,19 +66,62 @@ public class NeutronUsersService extends EquinoxUsersService<NeutronUser, Neutro
     }
 
     /**
-     * Method to change the currency of the {@link NeutronUser}
+     * Method to change the currency of the {@link NeutronUser}, the revenues are converted in background by the
+     * {@link CurrencyConversionExecutor} and until the conversion is completed they are left in the currency where
+     * they are stored. Requesting again the current currency while the revenues are not stored in it submits again
+     * the conversion, so a conversion which failed, for example when the exchange rates were not available, is retried
      *
      * @param newCurrency The new currency of the user
-     * @param oldCurrency The current currency of the user
-     * @param userId The identifier of the user
+     * @param user The user who requested the change
      */
-    public void changeCurrency(String newCurrency, NeutronCurrency oldCurrency, String userId) {
+    public void changeCurrency(String newCurrency, NeutronUser user) {
         NeutronCurrency newCurrencyValue = NeutronCurrency.valueOf(newCurrency);
-        if(newCurrencyValue != oldCurrency) {
-            usersRepository.changeCurrency(newCurrency, userId);
-            ExecutorService executor = Executors.newSingleThreadExecutor();
-            executor.execute(() -> revenuesService.convertRevenues(userId, oldCurrency, newCurrencyValue));
+        if(newCurrencyValue == user.getCurrency() && newCurrencyValue == user.getRevenuesCurrency())
+            return;
+        String userId = user.getId();
+        usersRepository.changeCurrency(newCurrency, userId);
+        conversionExecutor.submit(userId, user.getRevenuesCurrency(), newCurrencyValue);
+        resultsCache.invalidate(userId);
+    }
+
+    /**
+     * Method to resume the conversions interrupted by the last stop of the backend. Each pending run is resumed and
+     * the revenues of each user are then converted in its current currency, so also the conversions which were just
+     * queued when the backend stopped are not lost
+     *
+     * @param pendingRuns The runs interrupted by the last stop of the backend
+     */
+    public void resumeCurrencyConversions(List<CurrencyConversionRun> pendingRuns) {
+        Set<String> resumedUsers = new HashSet<>();
+        for (CurrencyConversionRun run : pendingRuns) {
+            String userId = run.getId().getOwner();
+            if(!resumedUsers.add(userId))
+                continue;
+            NeutronCurrency targetCurrency = run.getTargetCurrency();
+            NeutronUser user = usersRepository.findById(userId).orElse(null);
+            if(user != null)
+                targetCurrency = user.getCurrency();
+            conversionExecutor.submit(userId, run.getFromCurrency(), targetCurrency);
         }
+        for (String userId : usersRepository.getUsersToConvert()) {
+            if(!resumedUsers.add(userId))
+                continue;
+            NeutronUser user = usersRepository.findById(userId).orElse(null);
+            if(user != null)
+                conversionExecutor.submit(userId, user.getRevenuesCurrency(), user.getCurrency());
+        }
+    }
+
+    /**
+     * Method to get the status of the conversion of the revenues of the {@link NeutronUser} in its current currency
+     *
+     * @param userId The identifier of the user
+     * @param currency The current currency of the user
+     *
+     * @return the status of the conversion as {@link CurrencyConversionStatus}
+     */
+    public CurrencyConversionStatus getCurrencyConversionStatus(String userId, NeutronCurrency currency) {
+        return conversionExecutor.getStatus(userId, currency);
     }
 
 }
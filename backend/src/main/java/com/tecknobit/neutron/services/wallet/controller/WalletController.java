@@ -5,6 +5,7 @@ import com.tecknobit.equinoxbackend.environment.services.DefaultEquinoxControlle
 import com.tecknobit.neutron.services.DefaultNeutronController;
 import com.tecknobit.neutron.services.wallet.service.WalletService;
 import com.tecknobit.neutroncore.enums.RevenuePeriod;
+import com.tecknobit.neutroncore.enums.SeriesGranularity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.*;
 
@@ -14,7 +15,7 @@ import static com.tecknobit.apimanager.apis.APIRequest.RequestMethod.GET;
 import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.*;
 import static com.tecknobit.equinoxcore.network.EquinoxBaseEndpointsSet.BASE_EQUINOX_ENDPOINT;
 import static com.tecknobit.neutroncore.ContantsKt.*;
-import static com.tecknobit.neutroncore.helpers.NeutronEndpoints.WALLET_ENDPOINT;
+import static com.tecknobit.neutroncore.helpers.NeutronEndpoints.*;
 
 /**
  * The {@code WalletController} class is useful to manage all the operations on the user wallet
@@ -48,6 +49,7 @@ public class WalletController extends DefaultNeutronController {
      * @param userId The identifier of the user
      * @param token The token of the user
      * @param period The period to use to select the revenues
+     * @param trendWindows The number of consecutive windows of the period used to compute the trend
      * @param retrieveGeneralRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
      * @param retrieveProjectRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
      * @param labels The labels used to filter the data
@@ -64,13 +66,88 @@ public class WalletController extends DefaultNeutronController {
             @PathVariable(USER_IDENTIFIER_KEY) String userId,
             @RequestHeader(TOKEN_KEY) String token,
             @RequestParam(name = REVENUE_PERIOD_KEY, defaultValue = "LAST_MONTH", required = false) RevenuePeriod period,
+            @RequestParam(name = TREND_WINDOWS_KEY, defaultValue = "2", required = false) int trendWindows,
             @RequestParam(name = GENERAL_REVENUES_KEY, defaultValue = "true", required = false) boolean retrieveGeneralRevenues,
             @RequestParam(name = PROJECT_REVENUES_KEY, defaultValue = "true", required = false) boolean retrieveProjectRevenues,
             @RequestParam(name = LABELS_KEY, required = false) List<String> labels
     ) {
         if(!isMe(userId, token))
             return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
-        return (T) successResponse(walletService.getWalletStatus(userId, period, retrieveGeneralRevenues,
+        if(isConvertingCurrency())
+            return (T) failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
+        return (T) successResponse(walletService.getWalletStatus(userId, period, trendWindows, retrieveGeneralRevenues,
+                retrieveProjectRevenues, labels));
+    }
+
+    /**
+     * Method to get the earnings of the user bucketed in a time series
+     *
+     * @param userId The identifier of the user
+     * @param token The token of the user
+     * @param period The period to use to select the revenues
+     * @param granularity The granularity of the buckets of the series
+     * @param retrieveGeneralRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
+     * @param retrieveProjectRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
+     * @param labels The labels used to filter the data
+     *
+     * @return the result of the request as {@link String}
+     */
+    @GetMapping(
+            path = WALLET_SERIES_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{user_id}/wallet/series", method = GET)
+    public <T> T getWalletSeries(
+            @PathVariable(USER_IDENTIFIER_KEY) String userId,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestParam(name = REVENUE_PERIOD_KEY, defaultValue = "LAST_MONTH", required = false) RevenuePeriod period,
+            @RequestParam(name = SERIES_GRANULARITY_KEY, defaultValue = "DAY", required = false) SeriesGranularity granularity,
+            @RequestParam(name = GENERAL_REVENUES_KEY, defaultValue = "true", required = false) boolean retrieveGeneralRevenues,
+            @RequestParam(name = PROJECT_REVENUES_KEY, defaultValue = "true", required = false) boolean retrieveProjectRevenues,
+            @RequestParam(name = LABELS_KEY, required = false) List<String> labels
+    ) {
+        if(!isMe(userId, token))
+            return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return (T) failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
+        return (T) successResponse(walletService.getWalletSeries(userId, period, granularity, retrieveGeneralRevenues,
+                retrieveProjectRevenues, labels));
+    }
+
+    /**
+     * Method to get the wallet status of the user for each available period at once
+     *
+     * @param userId The identifier of the user
+     * @param token The token of the user
+     * @param trendWindows The number of consecutive windows of each period used to compute the trend
+     * @param retrieveGeneralRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
+     * @param retrieveProjectRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
+     * @param labels The labels used to filter the data
+     *
+     * @return the result of the request as {@link String}
+     */
+    @GetMapping(
+            path = WALLET_SNAPSHOT_ENDPOINT,
+            headers = {
+                    TOKEN_KEY
+            }
+    )
+    @RequestPath(path = "/api/v1/users/{user_id}/wallet/snapshot", method = GET)
+    public <T> T getWalletSnapshot(
+            @PathVariable(USER_IDENTIFIER_KEY) String userId,
+            @RequestHeader(TOKEN_KEY) String token,
+            @RequestParam(name = TREND_WINDOWS_KEY, defaultValue = "2", required = false) int trendWindows,
+            @RequestParam(name = GENERAL_REVENUES_KEY, defaultValue = "true", required = false) boolean retrieveGeneralRevenues,
+            @RequestParam(name = PROJECT_REVENUES_KEY, defaultValue = "true", required = false) boolean retrieveProjectRevenues,
+            @RequestParam(name = LABELS_KEY, required = false) List<String> labels
+    ) {
+        if(!isMe(userId, token))
+            return (T) failedResponse(NOT_AUTHORIZED_OR_WRONG_DETAILS_MESSAGE);
+        if(isConvertingCurrency())
+            return (T) failedResponse(CONVERSION_IN_PROGRESS_MESSAGE);
+        return (T) successResponse(walletService.getWalletSnapshot(userId, trendWindows, retrieveGeneralRevenues,
                 retrieveProjectRevenues, labels));
     }
 
@@ -0,0 +1,27 @@
+package com.tecknobit.neutron.services.wallet.dtos;
+
+/**
+ * The {@code BucketEarnings} interface is the projection used to map the earnings aggregated by the
+ * {@link com.tecknobit.neutron.services.wallet.repository.WalletRepository} for each day bucket
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+public interface BucketEarnings {
+
+    /**
+     * Method to get the day of the bucket, expressed as days since the epoch
+     *
+     * @return the day of the bucket as {@link Long}
+     */
+    Long getBucket();
+
+    /**
+     * Method to get the earnings summed in the bucket
+     *
+     * @return the earnings summed in the bucket as {@link Double}
+     */
+    Double getEarnings();
+
+}
@@ -0,0 +1,93 @@
+package com.tecknobit.neutron.services.wallet.repository;
+
+import com.tecknobit.neutron.services.revenues.entities.GeneralRevenue;
+import com.tecknobit.neutron.services.wallet.dtos.BucketEarnings;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+import static com.tecknobit.equinoxbackend.apis.database.SQLConstants._WHERE_;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.IDENTIFIER_KEY;
+import static com.tecknobit.equinoxcore.helpers.CommonKeysKt.OWNER_KEY;
+import static com.tecknobit.neutroncore.ContantsKt.*;
+
+/**
+ * The {@code WalletRepository} interface is useful to manage the aggregation queries for the wallet operations
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ * @see JpaRepository
+ * @see GeneralRevenue
+ *
+ * @since 1.0.5
+ */
+@Repository
+public interface WalletRepository extends JpaRepository<GeneralRevenue, String> {
+
+    /**
+     * Method to sum by day the earnings of a user reading the
+     * {@link com.tecknobit.neutron.services.revenues.entities.RevenueRollup} buckets
+     *
+     * @param userId The user identifier
+     * @param fromDay The day from which sum the earnings
+     * @param retrieveGeneralRevenues Whether include the {@link GeneralRevenue}
+     * @param retrieveProjectRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
+     * @param label The text of the label used to filter the general revenues, empty to not filter them
+     *
+     * @return the earnings of each day ordered by day as {@link List} of {@link BucketEarnings}
+     */
+    @Query(
+            value = "SELECT " + ROLLUP_DAY_KEY + " AS bucket, SUM(" + REVENUE_VALUE_KEY + ") AS earnings FROM " +
+                    REVENUE_ROLLUPS_KEY +
+                    _WHERE_ + OWNER_KEY + " = :" + IDENTIFIER_KEY +
+                    " AND " + ROLLUP_DAY_KEY + " >= :" + REVENUE_PERIOD_KEY +
+                    " AND (" +
+                        "(:" + GENERAL_REVENUES_KEY + " AND " + ROLLUP_KIND_KEY + " = 'general' AND " +
+                        ROLLUP_LABEL_KEY + " = :" + ROLLUP_LABEL_KEY + ")" +
+                        " OR (:" + PROJECT_REVENUES_KEY + " AND " + ROLLUP_KIND_KEY + " != 'general')" +
+                    ")" +
+                    " GROUP BY bucket ORDER BY bucket",
+            nativeQuery = true
+    )
+    List<BucketEarnings> getRollupsDailyEarnings(
+            @Param(IDENTIFIER_KEY) String userId,
+            @Param(REVENUE_PERIOD_KEY) long fromDay,
+            @Param(GENERAL_REVENUES_KEY) boolean retrieveGeneralRevenues,
+            @Param(PROJECT_REVENUES_KEY) boolean retrieveProjectRevenues,
+            @Param(ROLLUP_LABEL_KEY) String label
+    );
+
+    /**
+     * Method to sum by day the earnings of the general revenues of a user which have at least one of the labels
+     * specified, each revenue is summed once also when more than one of its labels match
+     *
+     * @param userId The user identifier
+     * @param fromDate The date from which sum the earnings
+     * @param labels The labels used to filter the data
+     *
+     * @return the earnings of each day ordered by day as {@link List} of {@link BucketEarnings}
+     */
+    @Query(
+            value = "SELECT r." + REVENUE_DATE_KEY + " DIV 86400000 AS bucket, SUM(r." + REVENUE_VALUE_KEY + ") AS earnings" +
+                    " FROM " + GENERAL_REVENUES_KEY + " AS r" +
+                    _WHERE_ + "r." + OWNER_KEY + " = :" + IDENTIFIER_KEY +
+                    " AND r." + REVENUE_DATE_KEY + " >= :" + REVENUE_PERIOD_KEY +
+                    " AND r.dtype = 'general'" +
+                    " AND EXISTS (" +
+                        "SELECT 1 FROM " + REVENUE_LABELS_KEY + " AS rv INNER JOIN " + LABELS_KEY +
+                        " AS l ON l." + IDENTIFIER_KEY + " = rv." + IDENTIFIER_KEY +
+                        _WHERE_ + "rv." + REVENUE_IDENTIFIER_KEY + " = r." + IDENTIFIER_KEY +
+                        " AND l." + REVENUE_LABEL_TEXT_KEY + " IN (:" + REVENUE_LABELS_KEY + ")" +
+                    ")" +
+                    " GROUP BY bucket ORDER BY bucket",
+            nativeQuery = true
+    )
+    List<BucketEarnings> getLabelledDailyEarnings(
+            @Param(IDENTIFIER_KEY) String userId,
+            @Param(REVENUE_PERIOD_KEY) long fromDate,
+            @Param(REVENUE_LABELS_KEY) List<String> labels
+    );
+
+}
@@ -1,17 +1,29 @@
 package com.tecknobit.neutron.services.wallet.service;
 
 import com.tecknobit.apimanager.trading.TradingTools;
-import com.tecknobit.neutron.services.revenues.entities.Revenue;
-import com.tecknobit.neutron.services.revenues.service.RevenuesService;
+import com.tecknobit.neutron.services.cache.UserResultsCache;
+import com.tecknobit.neutron.services.wallet.dtos.BucketEarnings;
+import com.tecknobit.neutron.services.wallet.repository.WalletRepository;
+import com.tecknobit.neutroncore.dtos.WalletSeriesBucket;
 import com.tecknobit.neutroncore.dtos.WalletStatus;
+import com.tecknobit.neutroncore.dtos.WalletTrendWindow;
 import com.tecknobit.neutroncore.enums.RevenuePeriod;
+import com.tecknobit.neutroncore.enums.SeriesGranularity;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
-import static com.tecknobit.equinoxcore.pagination.PaginatedResponse.DEFAULT_PAGE;
-import static java.lang.Integer.MAX_VALUE;
+import static com.tecknobit.neutron.services.cache.UserResultsCache.resultKey;
+import static com.tecknobit.neutron.services.revenues.entities.RevenueRollup.*;
+import static com.tecknobit.neutroncore.enums.RevenuePeriod.ALL;
+import static java.time.ZoneOffset.UTC;
 
 /**
  * The {@code WalletService} class is useful to manage all the wallet database operations
@@ -22,65 +34,273 @@ import static java.lang.Integer.MAX_VALUE;
 public class WalletService {
 
     /**
-     * {@code PREVIOUS_PERIOD_GAP} constant value used to indicate the previous period from the chosen one, for example
-     * the past month, past week, etc...
+     * {@code DEFAULT_TREND_WINDOWS} the default number of consecutive windows used to compute the trend, the current
+     * one and the previous one, for example the past month, past week, etc...
      */
-    private static final int PREVIOUS_PERIOD_GAP = 2;
+    public static final int DEFAULT_TREND_WINDOWS = 2;
 
     /**
-     * {@code revenuesService} helper to manage the revenues database operations
+     * {@code MAX_TREND_WINDOWS} the max number of consecutive windows which can be requested to compute the trend
      */
-    private final RevenuesService revenuesService;
+    public static final int MAX_TREND_WINDOWS = 60;
+
+    /**
+     * {@code walletRepository} instance for the wallet repository
+     */
+    private final WalletRepository walletRepository;
+
+    /**
+     * {@code resultsCache} the cache of the results computed for the users
+     */
+    private final UserResultsCache resultsCache;
 
     /**
      * Constructor to init the service
-     * @param revenuesService The helper to manage the revenues database operations
+     * @param walletRepository The instance for the wallet repository
+     * @param resultsCache The cache of the results computed for the users
      */
     @Autowired
-    public WalletService(RevenuesService revenuesService) {
-        this.revenuesService = revenuesService;
+    public WalletService(WalletRepository walletRepository, UserResultsCache resultsCache) {
+        this.walletRepository = walletRepository;
+        this.resultsCache = resultsCache;
     }
 
     /**
-     * Method to get the wallet status of the user
+     * Method to get the wallet status of the user, the earnings are summed by day with a single range query which
+     * covers all the requested windows and then partitioned in the consecutive windows of the period. The status is
+     * served from the {@link UserResultsCache} when available
      *
      * @param userId The identifier of the user
      * @param period The period to use to select the revenues
+     * @param trendWindows The number of consecutive windows of the period used to compute the trend
      * @param retrieveGeneralRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
      * @param retrieveProjectRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
      * @param labels The labels used to filter the data
      *
      * @return the result of the request as {@link WalletStatus}
      */
-    public WalletStatus getWalletStatus(String userId, RevenuePeriod period, boolean retrieveGeneralRevenues,
-                                        boolean retrieveProjectRevenues, List<String> labels) {
-        List<Revenue> revenues = revenuesService.getRevenues(userId, DEFAULT_PAGE, MAX_VALUE, period,
-                retrieveGeneralRevenues, retrieveProjectRevenues, labels).getData();
-        List<Revenue> lastMonthRevenues = revenuesService.getRevenues(userId, DEFAULT_PAGE, MAX_VALUE, period,
-                PREVIOUS_PERIOD_GAP, retrieveGeneralRevenues, retrieveProjectRevenues, labels).getData();
-        lastMonthRevenues.removeAll(revenues);
-        double totalEarnings = calculateEarnings(revenues);
-        double lastMonthEarnings = calculateEarnings(lastMonthRevenues);
-        double trend = 0.0;
-        if(lastMonthEarnings != 0)
-            trend = TradingTools.computeAssetPercent(lastMonthEarnings, totalEarnings, 2);
+    public WalletStatus getWalletStatus(String userId, RevenuePeriod period, int trendWindows,
+                                        boolean retrieveGeneralRevenues, boolean retrieveProjectRevenues,
+                                        List<String> labels) {
+        return resultsCache.getResult(userId, resultKey("wallet", period, trendWindows, retrieveGeneralRevenues,
+                retrieveProjectRevenues, labels), () -> {
+            long[] windowsStartDays = getWindowsStartDays(period, trendWindows);
+            TreeMap<Long, Double> dailyEarnings = getDailyEarnings(userId,
+                    windowsStartDays[windowsStartDays.length - 1], retrieveGeneralRevenues, retrieveProjectRevenues,
+                    labels);
+            return assembleWalletStatus(dailyEarnings, windowsStartDays);
+        });
+    }
+
+    /**
+     * Method to get the wallet status of the user for each {@link RevenuePeriod} at once. The earnings are summed by
+     * day with a single grouped query and then partitioned in memory in the consecutive windows of every period
+     *
+     * @param userId The identifier of the user
+     * @param trendWindows The number of consecutive windows of each period used to compute the trend
+     * @param retrieveGeneralRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
+     * @param retrieveProjectRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
+     * @param labels The labels used to filter the data
+     *
+     * @return the wallet status of each period as {@link Map} of {@link RevenuePeriod} and {@link WalletStatus}
+     */
+    public Map<RevenuePeriod, WalletStatus> getWalletSnapshot(String userId, int trendWindows,
+                                                              boolean retrieveGeneralRevenues,
+                                                              boolean retrieveProjectRevenues, List<String> labels) {
+        TreeMap<Long, Double> dailyEarnings = getDailyEarnings(userId, 0, retrieveGeneralRevenues,
+                retrieveProjectRevenues, labels);
+        EnumMap<RevenuePeriod, WalletStatus> snapshot = new EnumMap<>(RevenuePeriod.class);
+        for (RevenuePeriod period : RevenuePeriod.values())
+            snapshot.put(period, assembleWalletStatus(dailyEarnings, getWindowsStartDays(period, trendWindows)));
+        return snapshot;
+    }
+
+    /**
+     * Method to get the start days of the consecutive windows of a period, the {@link RevenuePeriod#ALL} period has
+     * always a single window
+     *
+     * @param period The period of the windows
+     * @param trendWindows The number of consecutive windows requested, bounded between the current window and
+     * {@link #MAX_TREND_WINDOWS}
+     *
+     * @return the start days of the windows, from the current one to the oldest one, as array of {@code long}
+     */
+    private long[] getWindowsStartDays(RevenuePeriod period, int trendWindows) {
+        int windows = period == ALL ? 1 : Math.max(1, Math.min(trendWindows, MAX_TREND_WINDOWS));
+        long[] windowsStartDays = new long[windows];
+        for (int j = 0; j < windows; j++)
+            windowsStartDays[j] = toDay(period.calculateFromDate(period, j + 1));
+        return windowsStartDays;
+    }
+
+    /**
+     * Method to assemble the wallet status partitioning the daily earnings in the consecutive windows
+     *
+     * @param dailyEarnings The earnings of each day
+     * @param windowsStartDays The start days of the windows, from the current one to the oldest one
+     *
+     * @return the wallet status as {@link WalletStatus}
+     */
+    private WalletStatus assembleWalletStatus(TreeMap<Long, Double> dailyEarnings, long[] windowsStartDays) {
+        double[] windowsEarnings = new double[windowsStartDays.length];
+        for (Map.Entry<Long, Double> day : dailyEarnings.tailMap(windowsStartDays[windowsStartDays.length - 1]).entrySet()) {
+            int window = 0;
+            while (day.getKey() < windowsStartDays[window])
+                window++;
+            windowsEarnings[window] += day.getValue();
+        }
+        List<WalletTrendWindow> trendHistory = new ArrayList<>(windowsStartDays.length);
+        for (int j = windowsStartDays.length - 1; j >= 0; j--) {
+            double trend = 0.0;
+            if(j + 1 < windowsStartDays.length)
+                trend = computeTrend(windowsEarnings[j + 1], windowsEarnings[j]);
+            trendHistory.add(new WalletTrendWindow(
+                    windowsStartDays[j] * DAY_MILLIS,
+                    TradingTools.roundValue(windowsEarnings[j], 2),
+                    trend
+            ));
+        }
         return new WalletStatus(
-                TradingTools.roundValue(totalEarnings, 2),
-                trend
+                TradingTools.roundValue(windowsEarnings[0], 2),
+                trendHistory.get(trendHistory.size() - 1).getTrend(),
+                trendHistory
         );
     }
 
     /**
-     * Method to calculate the earnings based on the revenues
+     * Method to compute the trend between the earnings of two consecutive windows
+     *
+     * @param previousEarnings The earnings of the previous window
+     * @param earnings The earnings of the window
+     *
+     * @return the trend as {@code double}
+     */
+    private double computeTrend(double previousEarnings, double earnings) {
+        if(previousEarnings == 0)
+            return 0.0;
+        return TradingTools.computeAssetPercent(previousEarnings, earnings, 2);
+    }
+
+    /**
+     * Method to get the earnings of the user bucketed in a time series, the earnings are summed by day in a single
+     * grouped pass and then folded in the buckets of the requested granularity. The buckets without earnings are
+     * included with a zero value
+     *
+     * @param userId The identifier of the user
+     * @param period The period to use to select the revenues
+     * @param granularity The granularity of the buckets of the series
+     * @param retrieveGeneralRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
+     * @param retrieveProjectRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
+     * @param labels The labels used to filter the data
+     *
+     * @return the series of the earnings ordered by date as {@link List} of {@link WalletSeriesBucket}
+     */
+    public List<WalletSeriesBucket> getWalletSeries(String userId, RevenuePeriod period, SeriesGranularity granularity,
+                                                    boolean retrieveGeneralRevenues, boolean retrieveProjectRevenues,
+                                                    List<String> labels) {
+        long fromDay = toDay(period.calculateFromDate(period, 1));
+        TreeMap<Long, Double> dailyEarnings = getDailyEarnings(userId, fromDay, retrieveGeneralRevenues,
+                retrieveProjectRevenues, labels);
+        LocalDate today = LocalDate.now(UTC);
+        LocalDate firstDay;
+        if(period == ALL)
+            firstDay = dailyEarnings.isEmpty() ? today : LocalDate.ofEpochDay(dailyEarnings.firstKey());
+        else
+            firstDay = LocalDate.ofEpochDay(fromDay);
+        TreeMap<LocalDate, Double> buckets = new TreeMap<>();
+        for (LocalDate bucket = getBucketStart(firstDay, granularity); !bucket.isAfter(today);
+             bucket = getNextBucketStart(bucket, granularity)) {
+            buckets.put(bucket, 0.0);
+        }
+        for (Map.Entry<Long, Double> day : dailyEarnings.entrySet())
+            buckets.merge(getBucketStart(LocalDate.ofEpochDay(day.getKey()), granularity), day.getValue(), Double::sum);
+        List<WalletSeriesBucket> series = new ArrayList<>(buckets.size());
+        for (Map.Entry<LocalDate, Double> bucket : buckets.entrySet()) {
+            series.add(new WalletSeriesBucket(
+                    bucket.getKey().toEpochDay() * DAY_MILLIS,
+                    TradingTools.roundValue(bucket.getValue(), 2)
+            ));
+        }
+        return series;
+    }
+
+    /**
+     * Method to sum by day the earnings of the user
+     *
+     * @param userId The identifier of the user
+     * @param fromDay The day from which sum the earnings
+     * @param retrieveGeneralRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.GeneralRevenue}
+     * @param retrieveProjectRevenues Whether include the {@link com.tecknobit.neutron.services.revenues.entities.ProjectRevenue}
+     * @param labels The labels used to filter the data
+     *
+     * @return the earnings of each day as {@link TreeMap} of day and earnings
+     */
+    private TreeMap<Long, Double> getDailyEarnings(String userId, long fromDay, boolean retrieveGeneralRevenues,
+                                                   boolean retrieveProjectRevenues, List<String> labels) {
+        TreeMap<Long, Double> dailyEarnings = new TreeMap<>();
+        boolean multipleLabels = labels != null && labels.size() > 1;
+        mergeEarnings(dailyEarnings, walletRepository.getRollupsDailyEarnings(userId, fromDay,
+                retrieveGeneralRevenues && !multipleLabels, retrieveProjectRevenues, getRollupLabel(labels)));
+        if(retrieveGeneralRevenues && multipleLabels)
+            mergeEarnings(dailyEarnings, walletRepository.getLabelledDailyEarnings(userId, fromDay * DAY_MILLIS, labels));
+        return dailyEarnings;
+    }
+
+    /**
+     * Method to merge the earnings of the buckets in the daily earnings
+     *
+     * @param dailyEarnings The daily earnings where merge the buckets
+     * @param bucketsEarnings The earnings of the buckets to merge
+     */
+    private void mergeEarnings(TreeMap<Long, Double> dailyEarnings, List<BucketEarnings> bucketsEarnings) {
+        for (BucketEarnings bucketEarnings : bucketsEarnings)
+            if(bucketEarnings.getEarnings() != null)
+                dailyEarnings.merge(bucketEarnings.getBucket(), bucketEarnings.getEarnings(), Double::sum);
+    }
+
+    /**
+     * Method to get the label of the rollups to read based on the labels used to filter the data
+     *
+     * @param labels The labels used to filter the data
+     *
+     * @return the label of the rollups to read as {@link String}
+     */
+    private String getRollupLabel(List<String> labels) {
+        if(labels == null || labels.isEmpty())
+            return NO_LABEL;
+        return labels.get(0);
+    }
+
+    /**
+     * Method to get the start day of the bucket where a day falls
+     *
+     * @param day The day to bucket
+     * @param granularity The granularity of the buckets
+     *
+     * @return the start day of the bucket as {@link LocalDate}
+     */
+    private LocalDate getBucketStart(LocalDate day, SeriesGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> day;
+            case WEEK -> day.minusDays(day.getDayOfWeek().getValue() - DayOfWeek.MONDAY.getValue());
+            case MONTH -> day.withDayOfMonth(1);
+        };
+    }
+
+    /**
+     * Method to get the start day of the bucket which follows the specified one
+     *
+     * @param bucketStart The start day of the current bucket
+     * @param granularity The granularity of the buckets
      *
-     * @param revenues The list of the revenues to use to calculate the total earnings
-     * @return the total earnings as {@code double}
+     * @return the start day of the next bucket as {@link LocalDate}
      */
-    private double calculateEarnings(List<Revenue> revenues) {
-        double earnings = 0;
-        for (Revenue revenue : revenues)
-            earnings += revenue.getValue();
-        return earnings;
+    private LocalDate getNextBucketStart(LocalDate bucketStart, SeriesGranularity granularity) {
+        return switch (granularity) {
+            case DAY -> bucketStart.plusDays(1);
+            case WEEK -> bucketStart.plusWeeks(1);
+            case MONTH -> bucketStart.plusMonths(1);
+        };
     }
 
 }
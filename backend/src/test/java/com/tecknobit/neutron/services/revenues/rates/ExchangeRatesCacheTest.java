@@ -0,0 +1,201 @@
+package com.tecknobit.neutron.services.revenues.rates;
+
+import com.tecknobit.neutroncore.enums.NeutronCurrency;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * The {@code ExchangeRatesCacheTest} class is useful to test the {@link ExchangeRatesCache} driving it with a fake
+ * provider of the exchange rates and with a mutable clock, without starting the background refreshes
+ *
+ * @author N7ghtm4r3 - Tecknobit
+ *
+ * @since 1.0.5
+ */
+class ExchangeRatesCacheTest {
+
+    /**
+     * {@code TTL_MINUTES} how long a snapshot is considered fresh, in minutes
+     */
+    private static final long TTL_MINUTES = 10;
+
+    /**
+     * {@code RETRY_SECONDS} how long wait before retrying a failed refresh, in seconds
+     */
+    private static final long RETRY_SECONDS = 30;
+
+    /**
+     * {@code ratesProvider} the fake provider of the exchange rates
+     */
+    private FakeRatesProvider ratesProvider;
+
+    /**
+     * {@code clock} the mutable clock used to timestamp the snapshots
+     */
+    private MutableClock clock;
+
+    /**
+     * {@code ratesCache} the cache tested
+     */
+    private ExchangeRatesCache ratesCache;
+
+    @BeforeEach
+    void setUp() {
+        ratesProvider = new FakeRatesProvider();
+        clock = new MutableClock(1_000);
+        ratesCache = new ExchangeRatesCache(ratesProvider, TTL_MINUTES, RETRY_SECONDS, clock);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ratesCache.shutdown();
+    }
+
+    @Test
+    void getSnapshotFetchesTheRatesWhenNoSnapshotIsLoaded() {
+        ExchangeRatesSnapshot snapshot = ratesCache.getSnapshot();
+        assertEquals(1, ratesProvider.fetches);
+        assertEquals(1_000, snapshot.getFetchTimestamp());
+        assertEquals(2, snapshot.getConversionFactor(NeutronCurrency.DOLLAR, NeutronCurrency.EURO), 1e-9);
+        clock.millis = 2_000;
+        assertSame(snapshot, ratesCache.getSnapshot());
+        assertEquals(1, ratesProvider.fetches);
+    }
+
+    @Test
+    void getSnapshotFailsWhenNoSnapshotIsLoadedAndTheProviderFails() {
+        ratesProvider.failing = true;
+        IllegalStateException exception = assertThrows(IllegalStateException.class, ratesCache::getSnapshot);
+        assertInstanceOf(IOException.class, exception.getCause());
+        ratesProvider.failing = false;
+        assertNotNull(ratesCache.getSnapshot());
+    }
+
+    @Test
+    void refreshIsScheduledAheadOfTheExpiration() {
+        assertEquals((long) (TTL_MINUTES * 60 * 1000 * 0.8), ratesCache.refreshAndGetNextDelay());
+        assertEquals(1_000, ratesCache.getSnapshot().getFetchTimestamp());
+        clock.millis = 5_000;
+        ratesProvider.euroRate = 4;
+        ratesCache.refreshAndGetNextDelay();
+        ExchangeRatesSnapshot snapshot = ratesCache.getSnapshot();
+        assertEquals(5_000, snapshot.getFetchTimestamp());
+        assertEquals(4, snapshot.getConversionFactor(NeutronCurrency.DOLLAR, NeutronCurrency.EURO), 1e-9);
+        assertEquals(2, ratesProvider.fetches);
+    }
+
+    @Test
+    void failedRefreshIsRetriedKeepingTheLastGoodSnapshot() {
+        ratesCache.refreshAndGetNextDelay();
+        ExchangeRatesSnapshot lastGoodSnapshot = ratesCache.getSnapshot();
+        ratesProvider.failing = true;
+        clock.millis = 5_000;
+        assertEquals(RETRY_SECONDS * 1000, ratesCache.refreshAndGetNextDelay());
+        assertSame(lastGoodSnapshot, ratesCache.getSnapshot());
+        ratesProvider.failing = false;
+        assertEquals((long) (TTL_MINUTES * 60 * 1000 * 0.8), ratesCache.refreshAndGetNextDelay());
+        assertEquals(5_000, ratesCache.getSnapshot().getFetchTimestamp());
+    }
+
+    /**
+     * The {@code FakeRatesProvider} class is useful to provide fixed exchange rates, failing on demand
+     */
+    private static class FakeRatesProvider implements ExchangeRatesProvider {
+
+        /**
+         * {@code fetches} the number of the successful fetches
+         */
+        private int fetches;
+
+        /**
+         * {@code failing} whether the fetches have to fail
+         */
+        private boolean failing;
+
+        /**
+         * {@code euroRate} the value of one US dollar in euro
+         */
+        private double euroRate = 2;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Map<NeutronCurrency, Double> fetchRates() throws Exception {
+            if(failing)
+                throw new IOException("Provider not reachable");
+            fetches++;
+            Map<NeutronCurrency, Double> rates = new HashMap<>();
+            for (NeutronCurrency currency : NeutronCurrency.getEntries())
+                rates.put(currency, 1.0);
+            rates.put(NeutronCurrency.EURO, euroRate);
+            return rates;
+        }
+
+    }
+
+    /**
+     * The {@code MutableClock} class is useful to move the time of the tests manually
+     */
+    private static class MutableClock extends Clock {
+
+        /**
+         * {@code millis} the current time, in milliseconds
+         */
+        private long millis;
+
+        /**
+         * Constructor to init the clock
+         *
+         * @param millis The current time, in milliseconds
+         */
+        private MutableClock(long millis) {
+            this.millis = millis;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public long millis() {
+            return millis;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+    }
+
+}
@@ -10,7 +10,7 @@ plugins {
 }
 
 group = "com.tecknobit.neutroncore"
-version = "1.0.4"
+version = "1.0.5"
 
 repositories {
     google()
@@ -82,7 +82,7 @@ afterEvaluate {
             create<MavenPublication>("maven") {
                 groupId = "com.tecknobit.neutroncore"
                 artifactId = "neutroncore"
-                version = "1.0.4"
+                version = "1.0.5"
                 from(components["kotlin"])
             }
         }
@@ -169,3 +169,118 @@ const val CLOSED_TICKET_LABEL_COLOR = "#12b543"
  * `CLOSING_DATE_KEY` the key for the `closing_date` field
  */
 const val CLOSING_DATE_KEY = "closing_date"
+
+/**
+ * `REVENUE_ROLLUPS_KEY` the key for the `revenue_rollups` field
+ */
+const val REVENUE_ROLLUPS_KEY = "revenue_rollups"
+
+/**
+ * `ROLLUP_DAY_KEY` the key for the `rollup_day` field
+ */
+const val ROLLUP_DAY_KEY = "rollup_day"
+
+/**
+ * `ROLLUP_KIND_KEY` the key for the `rollup_kind` field
+ */
+const val ROLLUP_KIND_KEY = "rollup_kind"
+
+/**
+ * `ROLLUP_LABEL_KEY` the key for the `rollup_label` field
+ */
+const val ROLLUP_LABEL_KEY = "rollup_label"
+
+/**
+ * `ROLLUP_COUNT_KEY` the key for the `rollup_count` field
+ */
+const val ROLLUP_COUNT_KEY = "rollup_count"
+
+/**
+ * `INITIAL_REVENUE_VALUE_KEY` the key for the `initial_value` field
+ */
+const val INITIAL_REVENUE_VALUE_KEY = "initial_value"
+
+/**
+ * `INITIAL_REVENUE_DATE_KEY` the key for the `initial_date` field
+ */
+const val INITIAL_REVENUE_DATE_KEY = "initial_date"
+
+/**
+ * `PENDING_TICKETS_VALUE_KEY` the key for the `pending_tickets_value` field
+ */
+const val PENDING_TICKETS_VALUE_KEY = "pending_tickets_value"
+
+/**
+ * `CLOSED_TICKETS_VALUE_KEY` the key for the `closed_tickets_value` field
+ */
+const val CLOSED_TICKETS_VALUE_KEY = "closed_tickets_value"
+
+/**
+ * `PENDING_TICKETS_COUNT_KEY` the key for the `pending_tickets_count` field
+ */
+const val PENDING_TICKETS_COUNT_KEY = "pending_tickets_count"
+
+/**
+ * `CLOSED_TICKETS_COUNT_KEY` the key for the `closed_tickets_count` field
+ */
+const val CLOSED_TICKETS_COUNT_KEY = "closed_tickets_count"
+
+/**
+ * `TICKETS_OPERATION_KEY` the key for the `tickets_operation` field
+ */
+const val TICKETS_OPERATION_KEY = "tickets_operation"
+
+/**
+ * `EXPORT_FORMAT_KEY` the key for the `export_format` field
+ */
+const val EXPORT_FORMAT_KEY = "export_format"
+
+/**
+ * `CONVERSION_FACTOR_KEY` the key for the `conversion_factor` field
+ */
+const val CONVERSION_FACTOR_KEY = "conversion_factor"
+
+/**
+ * `REVENUES_CURRENCY_KEY` the key for the `revenues_currency` field
+ */
+const val REVENUES_CURRENCY_KEY = "revenues_currency"
+
+/**
+ * `CURRENCY_CONVERSION_RUNS_KEY` the key for the `currency_conversion_runs` field
+ */
+const val CURRENCY_CONVERSION_RUNS_KEY = "currency_conversion_runs"
+
+/**
+ * `RATES_SNAPSHOT_KEY` the key for the `rates_snapshot` field
+ */
+const val RATES_SNAPSHOT_KEY = "rates_snapshot"
+
+/**
+ * `CONVERSION_PHASE_KEY` the key for the `conversion_phase` field
+ */
+const val CONVERSION_PHASE_KEY = "conversion_phase"
+
+/**
+ * `CONVERSION_CHECKPOINT_KEY` the key for the `checkpoint` field
+ */
+const val CONVERSION_CHECKPOINT_KEY = "checkpoint"
+
+/**
+ * `CONVERTED_ROWS_KEY` the key for the `converted_rows` field
+ */
+const val CONVERTED_ROWS_KEY = "converted_rows"
+
+/**
+ * `TOTAL_ROWS_KEY` the key for the `total_rows` field
+ */
+const val TOTAL_ROWS_KEY = "total_rows"
+
+/**
+ * `SERIES_GRANULARITY_KEY` the key for the `granularity` field
+ */
+const val SERIES_GRANULARITY_KEY = "granularity"
+
+/**
+ * `TREND_WINDOWS_KEY` the key for the `trend_windows` field
+ */
+const val TREND_WINDOWS_KEY = "trend_windows"
@@ -0,0 +1,50 @@
+package com.tecknobit.neutroncore.dtos
+
+import com.tecknobit.equinoxcore.annotations.DTO
+import com.tecknobit.neutroncore.enums.ConversionJobState
+import com.tecknobit.neutroncore.enums.NeutronCurrency
+import kotlinx.serialization.Serializable
+
+/**
+ * `CurrencyConversionStatus` data transferable object used to share the status of the conversion of the revenues of
+ * a user in a new currency
+ *
+ * @property state The state of the conversion
+ * @property fromCurrency The currency from which the revenues are converted
+ * @property targetCurrency The currency in which the revenues are converted
+ * @property progress The progress of the conversion, from `0` to `1`
+ */
+@DTO
+@Serializable
+data class CurrencyConversionStatus(
+    val state: ConversionJobState,
+    val fromCurrency: NeutronCurrency,
+    val targetCurrency: NeutronCurrency,
+    val progress: Double
+) {
+
+    companion object {
+
+        /**
+         * `CONVERSION_STATE_KEY` the key for the `state` field
+         */
+        const val CONVERSION_STATE_KEY = "state"
+
+        /**
+         * `FROM_CURRENCY_KEY` the key for the `from_currency` field
+         */
+        const val FROM_CURRENCY_KEY = "from_currency"
+
+        /**
+         * `TARGET_CURRENCY_KEY` the key for the `target_currency` field
+         */
+        const val TARGET_CURRENCY_KEY = "target_currency"
+
+        /**
+         * `CONVERSION_PROGRESS_KEY` the key for the `progress` field
+         */
+        const val CONVERSION_PROGRESS_KEY = "progress"
+
+    }
+
+}
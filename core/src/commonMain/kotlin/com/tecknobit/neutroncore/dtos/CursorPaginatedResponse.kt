@@ -0,0 +1,38 @@
+package com.tecknobit.neutroncore.dtos
+
+import com.tecknobit.equinoxcore.annotations.DTO
+import kotlinx.serialization.Serializable
+
+/**
+ * `CursorPaginatedResponse` data transferable object used to share a page of items fetched with the keyset
+ * pagination, the next page is requested sending back the [nextCursor] value
+ *
+ * @property data The items of the page
+ * @property pageSize The max number of items of the page
+ * @property nextCursor The opaque cursor to request the next page, `null` when the page is the last one
+ *
+ * @param T The type of the items of the page
+ */
+@DTO
+@Serializable
+data class CursorPaginatedResponse<T>(
+    val data: List<T>,
+    val pageSize: Int,
+    val nextCursor: String? = null
+) {
+
+    companion object {
+
+        /**
+         * `CURSOR_KEY` the key for the `cursor` field
+         */
+        const val CURSOR_KEY = "cursor"
+
+        /**
+         * `NEXT_CURSOR_KEY` the key for the `next_cursor` field
+         */
+        const val NEXT_CURSOR_KEY = "next_cursor"
+
+    }
+
+}
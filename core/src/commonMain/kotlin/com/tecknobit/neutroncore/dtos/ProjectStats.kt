@@ -0,0 +1,42 @@
+package com.tecknobit.neutroncore.dtos
+
+import com.tecknobit.equinoxcore.annotations.DTO
+import kotlinx.serialization.Serializable
+
+/**
+ * `ProjectStats` data transferable object used to share the statistics of the tickets of a project
+ *
+ * @property pendingTickets The number of the pending tickets
+ * @property closedTickets The number of the closed tickets
+ * @property pendingValue The sum of the amount values of the pending tickets
+ * @property closedValue The sum of the amount values of the closed tickets
+ * @property averageTimeToClose The average time, in milliseconds, elapsed between the opening and the closing of the
+ * closed tickets
+ * @property largestTickets The tickets with the largest amount value, from the largest one
+ */
+@DTO
+@Serializable
+data class ProjectStats(
+    val pendingTickets: Long,
+    val closedTickets: Long,
+    val pendingValue: Double,
+    val closedValue: Double,
+    val averageTimeToClose: Long,
+    val largestTickets: List<ProjectTicketSummary> = emptyList()
+) {
+
+    companion object {
+
+        /**
+         * `LARGEST_TICKETS_KEY` the key for the `largest_tickets` field
+         */
+        const val LARGEST_TICKETS_KEY = "largest_tickets"
+
+        /**
+         * `AVERAGE_TIME_TO_CLOSE_KEY` the key for the `average_time_to_close` field
+         */
+        const val AVERAGE_TIME_TO_CLOSE_KEY = "average_time_to_close"
+
+    }
+
+}
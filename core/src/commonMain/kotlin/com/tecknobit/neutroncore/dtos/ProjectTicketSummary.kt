@@ -0,0 +1,23 @@
+package com.tecknobit.neutroncore.dtos
+
+import com.tecknobit.equinoxcore.annotations.DTO
+import kotlinx.serialization.Serializable
+
+/**
+ * `ProjectTicketSummary` data transferable object used to share the main details of a ticket of a project
+ *
+ * @property id The identifier of the ticket
+ * @property title The title of the ticket
+ * @property value The amount value of the ticket
+ * @property revenueDate The date when the ticket has been opened
+ * @property closingDate The date when the ticket has been closed, -1 if it is still pending
+ */
+@DTO
+@Serializable
+data class ProjectTicketSummary(
+    val id: String,
+    val title: String,
+    val value: Double,
+    val revenueDate: Long,
+    val closingDate: Long
+)
@@ -0,0 +1,33 @@
+package com.tecknobit.neutroncore.dtos
+
+import com.tecknobit.equinoxcore.annotations.DTO
+import kotlinx.serialization.Serializable
+
+/**
+ * `WalletSeriesBucket` data transferable object used to share the earnings of the wallet in a bucket of the series
+ *
+ * @property bucketStart The start date of the bucket
+ * @property earnings The earnings amount value of the bucket
+ */
+@DTO
+@Serializable
+data class WalletSeriesBucket(
+    val bucketStart: Long,
+    val earnings: Double
+) {
+
+    companion object {
+
+        /**
+         * `BUCKET_START_KEY` the key for the `bucket_start` field
+         */
+        const val BUCKET_START_KEY = "bucket_start"
+
+        /**
+         * `EARNINGS_KEY` the key for the `earnings` field
+         */
+        const val EARNINGS_KEY = "earnings"
+
+    }
+
+}
@@ -8,12 +8,15 @@ import kotlinx.serialization.Serializable
  *
  * @property totalEarnings The total earnings amount value
  * @property trend The current trend of the wallet based on the period
+ * @property trendHistory The consecutive windows of the period used to compute the trend, from the oldest one to the
+ * current one
  */
 @DTO
 @Serializable
 data class WalletStatus(
     val totalEarnings: Double,
-    val trend: Double
+    val trend: Double,
+    val trendHistory: List<WalletTrendWindow> = emptyList()
 ) {
 
     companion object {
@@ -28,6 +31,11 @@ data class WalletStatus(
          */
         const val TREND_KEY = "trend"
 
+        /**
+         * `TREND_HISTORY_KEY` the key for the `trend_history` field
+         */
+        const val TREND_HISTORY_KEY = "trend_history"
+
     }
 
 }
@@ -0,0 +1,31 @@
+package com.tecknobit.neutroncore.dtos
+
+import com.tecknobit.equinoxcore.annotations.DTO
+import kotlinx.serialization.Serializable
+
+/**
+ * `WalletTrendWindow` data transferable object used to share the earnings of the wallet in one of the consecutive
+ * windows of the trend history
+ *
+ * @property windowStart The start date of the window
+ * @property earnings The earnings amount value of the window
+ * @property trend The trend of the window compared to the previous one
+ */
+@DTO
+@Serializable
+data class WalletTrendWindow(
+    val windowStart: Long,
+    val earnings: Double,
+    val trend: Double
+) {
+
+    companion object {
+
+        /**
+         * `WINDOW_START_KEY` the key for the `window_start` field
+         */
+        const val WINDOW_START_KEY = "window_start"
+
+    }
+
+}
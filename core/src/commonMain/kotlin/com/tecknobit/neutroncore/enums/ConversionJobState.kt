@@ -0,0 +1,34 @@
+package com.tecknobit.neutroncore.enums
+
+/**
+ * `ConversionJobState` list of the states of the job which converts the revenues of a user in a new currency
+ */
+enum class ConversionJobState {
+
+    /**
+     * `IDLE` no conversion has been requested, the revenues are consistent with the currency of the user
+     */
+    IDLE,
+
+    /**
+     * `QUEUED` the conversion is waiting to be executed
+     */
+    QUEUED,
+
+    /**
+     * `RUNNING` the conversion is in progress
+     */
+    RUNNING,
+
+    /**
+     * `COMPLETED` the conversion has been completed, the revenues are consistent with the currency of the user
+     */
+    COMPLETED,
+
+    /**
+     * `FAILED` the conversion has failed and its changes have been rolled back, not reported anymore by the backend
+     * because a failed conversion is queued again and retried
+     */
+    FAILED
+
+}
@@ -0,0 +1,23 @@
+package com.tecknobit.neutroncore.enums
+
+/**
+ * `SeriesGranularity` list of the available granularities used to bucket the earnings of the wallet series
+ */
+enum class SeriesGranularity {
+
+    /**
+     * `DAY` bucket the earnings by day
+     */
+    DAY,
+
+    /**
+     * `WEEK` bucket the earnings by week, each week starts on monday
+     */
+    WEEK,
+
+    /**
+     * `MONTH` bucket the earnings by month
+     */
+    MONTH
+
+}
@@ -0,0 +1,23 @@
+package com.tecknobit.neutroncore.enums
+
+/**
+ * `TicketsBatchOperation` list of the operations available to execute on many tickets of a project at once
+ */
+enum class TicketsBatchOperation {
+
+    /**
+     * `CLOSE` close the pending tickets
+     */
+    CLOSE,
+
+    /**
+     * `EDIT` edit the pending tickets
+     */
+    EDIT,
+
+    /**
+     * `DELETE` delete the tickets
+     */
+    DELETE
+
+}
@@ -0,0 +1,36 @@
+package com.tecknobit.neutroncore.enums
+
+/**
+ * `TicketsExportFormat` list of the available formats used to export the tickets of a project
+ */
+enum class TicketsExportFormat(
+
+    /**
+     * `contentType` the content type of the exported file
+     */
+    val contentType: String,
+
+    /**
+     * `extension` the extension of the exported file
+     */
+    val extension: String
+
+) {
+
+    /**
+     * `CSV` export the tickets as comma separated values, the first line is the header with the names of the columns
+     */
+    CSV(
+        contentType = "text/csv",
+        extension = "csv"
+    ),
+
+    /**
+     * `JSONL` export the tickets as json lines, each line is a json object which represents a ticket
+     */
+    JSONL(
+        contentType = "application/x-ndjson",
+        extension = "jsonl"
+    )
+
+}
@@ -16,19 +16,54 @@ object NeutronEndpoints : EquinoxBaseEndpointsSet() {
      */
     const val CHANGE_CURRENCY_ENDPOINT: String = "/changeCurrency"
 
+    /**
+     * `CURRENCY_CONVERSION_ENDPOINT` the endpoint to where retrieve the status of the conversion of the user revenues
+     */
+    const val CURRENCY_CONVERSION_ENDPOINT: String = "/currencyConversion"
+
     /**
      * `PROJECT_BALANCE_ENDPOINT` the endpoint to where retrieve the balance of a project
      */
     const val PROJECT_BALANCE_ENDPOINT: String = "/balance"
 
+    /**
+     * `PENDING_TICKETS_ENDPOINT` the endpoint to where retrieve the pending tickets of all the projects of a user
+     */
+    const val PENDING_TICKETS_ENDPOINT: String = "/pending"
+
+    /**
+     * `PROJECT_STATS_ENDPOINT` the endpoint to where retrieve the statistics of the tickets of a project
+     */
+    const val PROJECT_STATS_ENDPOINT: String = "/stats"
+
     /**
      * `TICKETS_ENDPOINT` the endpoint to execute the all the ticket's operation
      */
     const val TICKETS_ENDPOINT: String = "/tickets"
 
+    /**
+     * `TICKETS_BATCH_ENDPOINT` the endpoint to execute an operation on many tickets at once
+     */
+    const val TICKETS_BATCH_ENDPOINT: String = "/batch"
+
+    /**
+     * `TICKETS_EXPORT_ENDPOINT` the endpoint to export the tickets of a project
+     */
+    const val TICKETS_EXPORT_ENDPOINT: String = "/export"
+
     /**
      * `WALLET_ENDPOINT` the endpoint to execute the all the wallet's operation
      */
     const val WALLET_ENDPOINT: String = "/wallet"
 
+    /**
+     * `WALLET_SERIES_ENDPOINT` the endpoint to retrieve the earnings of the wallet bucketed in a time series
+     */
+    const val WALLET_SERIES_ENDPOINT: String = "/series"
+
+    /**
+     * `WALLET_SNAPSHOT_ENDPOINT` the endpoint to retrieve the status of the wallet for each period at once
+     */
+    const val WALLET_SNAPSHOT_ENDPOINT: String = "/snapshot"
+
 }